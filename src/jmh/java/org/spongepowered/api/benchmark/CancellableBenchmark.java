@@ -0,0 +1,132 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.AbstractEvent;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.entity.EntitySpawnEvent;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link AbstractEvent}, which allocates a callback
+ * list for every event, and of the {@link Cancellable} state of a generated
+ * event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CancellableBenchmark {
+
+    private EntitySpawnEvent event;
+
+    @Setup
+    public void setUp() {
+        Entity entity = Dummies.of(Entity.class);
+        Location location = new Location(Dummies.of(Extent.class), 0, 64, 0);
+        this.event = SpongeEventFactory.createEntitySpawn(Dummies.of(Game.class), entity, location);
+    }
+
+    @Benchmark
+    public Object createPlainObject() {
+        return new PlainCancellable();
+    }
+
+    @Benchmark
+    public Object createAbstractEvent() {
+        return new CancellableEvent();
+    }
+
+    @Benchmark
+    public boolean isCancelled() {
+        return this.event.isCancelled();
+    }
+
+    @Benchmark
+    public boolean setCancelled() {
+        this.event.setCancelled(true);
+        this.event.setCancelled(false);
+        return this.event.isCancelled();
+    }
+
+    @Benchmark
+    public void runNoCallbacks() {
+        this.event.getCallbacks().runAll();
+    }
+
+    public static class PlainCancellable implements Cancellable {
+
+        private boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+
+    }
+
+    public static class CancellableEvent extends AbstractEvent implements Cancellable {
+
+        private boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+            if (cancel) {
+                this.callbacks.cancelAll();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.benchmark;
+
+import com.google.common.base.Optional;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Creates stand-in implementations of API interfaces for benchmarks, where
+ * no implementation of the API is available.
+ */
+final class Dummies {
+
+    private Dummies() {
+    }
+
+    /**
+     * Create an instance of the given interface whose methods return
+     * {@link Optional#absent()}, {@code null}, {@code false} or zero.
+     *
+     * @param type The interface
+     * @param <T> The type of the interface
+     * @return The instance
+     */
+    static <T> T of(Class<T> type) {
+        return of(type, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return defaultValue(proxy, method, args);
+            }
+        });
+    }
+
+    /**
+     * Create an instance of the given interface that uses the given handler.
+     *
+     * @param type The interface
+     * @param handler The invocation handler
+     * @param <T> The type of the interface
+     * @return The instance
+     */
+    static <T> T of(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    /**
+     * Get the value a method of a stand-in implementation returns by default.
+     *
+     * @param proxy The stand-in instance
+     * @param method The method
+     * @param args The arguments
+     * @return The default value
+     */
+    static Object defaultValue(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        Class<?> type = method.getReturnType();
+        if (name.equals("equals") && args != null && args.length == 1) {
+            return proxy == args[0];
+        } else if (name.equals("hashCode") && args == null) {
+            return System.identityHashCode(proxy);
+        } else if (name.equals("toString") && args == null) {
+            return "Dummy" + proxy.getClass().getInterfaces()[0].getSimpleName();
+        } else if (type == Optional.class) {
+            return Optional.absent();
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == char.class) {
+            return (char) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0F;
+        } else if (type == double.class) {
+            return 0D;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.benchmark;
+
+import com.google.common.base.Optional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.AbstractEvent;
+import org.spongepowered.api.event.EventHandler;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.api.service.event.EventManager;
+import org.spongepowered.api.service.event.SimpleEventManager;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the dispatch of an event through the reference
+ * {@link EventManager} to a number of handlers that are spread across all
+ * {@link Order} levels.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EventDispatchBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int handlers;
+
+    private EventManager eventManager;
+    private final DispatchEvent event = new DispatchEvent();
+    private final DispatchEvent subEvent = new SubEvent();
+    private int calls;
+
+    @Setup
+    public void setUp() {
+        final Object plugin = new Object();
+        final PluginContainer container = Dummies.of(PluginContainer.class);
+        PluginManager pluginManager = Dummies.of(PluginManager.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("fromInstance")) {
+                    return args[0] == plugin ? Optional.of(container) : Optional.absent();
+                }
+                return Dummies.defaultValue(proxy, method, args);
+            }
+        });
+
+        this.eventManager = new SimpleEventManager(pluginManager);
+        Order[] orders = Order.values();
+        for (int i = 0; i < this.handlers; i++) {
+            this.eventManager.register(plugin, DispatchEvent.class, orders[i % orders.length], new EventHandler<DispatchEvent>() {
+                @Override
+                public void handle(DispatchEvent event) {
+                    EventDispatchBenchmark.this.calls++;
+                }
+            });
+        }
+        // Handlers of unrelated events must not slow down the dispatch
+        this.eventManager.register(plugin, OtherEvent.class, new EventHandler<OtherEvent>() {
+            @Override
+            public void handle(OtherEvent event) {
+                EventDispatchBenchmark.this.calls++;
+            }
+        });
+    }
+
+    @Benchmark
+    public boolean post() {
+        return this.eventManager.post(this.event);
+    }
+
+    @Benchmark
+    public boolean postSubtype() {
+        return this.eventManager.post(this.subEvent);
+    }
+
+    @Benchmark
+    public boolean hasListeners() {
+        return this.eventManager.hasListeners(DispatchEvent.class);
+    }
+
+    public static class DispatchEvent extends AbstractEvent {
+
+    }
+
+    public static class SubEvent extends DispatchEvent {
+
+    }
+
+    public static class OtherEvent extends AbstractEvent {
+
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.benchmark;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.FluidSpreadEvent;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.entity.EntitySpawnEvent;
+import org.spongepowered.api.event.state.ServerStartingEvent;
+import org.spongepowered.api.util.event.factory.EventPool;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of creating events through the {@link SpongeEventFactory}
+ * for event types with a different number of properties.
+ *
+ * <p>The classes of the events are generated during the warmup, so only
+ * the creation of the instances is measured.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EventFactoryBenchmark {
+
+    private Game game;
+    private Entity entity;
+    private Location location;
+    private Cause cause;
+    private List<Location> blocks;
+    private EventPool<EntitySpawnEvent> pool;
+
+    @Setup
+    public void setUp() {
+        this.game = Dummies.of(Game.class);
+        this.entity = Dummies.of(Entity.class);
+        this.location = new Location(Dummies.of(Extent.class), 0, 64, 0);
+        this.cause = new Cause(null, this.entity, null);
+        this.blocks = Lists.newArrayList(this.location);
+        this.pool = SpongeEventFactory.newEventPool(EntitySpawnEvent.class, 16);
+    }
+
+    @Benchmark
+    public ServerStartingEvent createStateEvent() {
+        return SpongeEventFactory.createState(ServerStartingEvent.class, this.game);
+    }
+
+    @Benchmark
+    public EntitySpawnEvent createEntitySpawnEvent() {
+        return SpongeEventFactory.createEntitySpawn(this.game, this.entity, this.location);
+    }
+
+    @Benchmark
+    public FluidSpreadEvent createFluidSpreadEvent() {
+        return SpongeEventFactory.createFluidSpread(this.game, this.cause, this.blocks);
+    }
+
+    @Benchmark
+    public EntitySpawnEvent acquirePooledEntitySpawnEvent() {
+        Map<String, Object> values = Maps.newHashMap();
+        values.put("game", this.game);
+        values.put("entity", this.entity);
+        values.put("location", this.location);
+        EntitySpawnEvent event = this.pool.acquire(values);
+        this.pool.release(event);
+        return event;
+    }
+
+}
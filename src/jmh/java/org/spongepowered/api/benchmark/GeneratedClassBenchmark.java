@@ -0,0 +1,128 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.benchmark;
+
+import com.google.common.collect.Maps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.util.event.factory.ClassGeneratorProvider;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the field access of a class generated by the
+ * {@link ClassGeneratorProvider} with a hand-written class implementing the
+ * same interface.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GeneratedClassBenchmark {
+
+    private Container generated;
+    private Container handWritten;
+
+    @Setup
+    public void setUp() {
+        ClassGeneratorProvider provider = new ClassGeneratorProvider("org.spongepowered.api.benchmark.generated");
+        Map<String, Object> values = Maps.newHashMap();
+        values.put("value", 1);
+        values.put("name", "name");
+        this.generated = provider.create(Container.class, Object.class).apply(values);
+        this.handWritten = new HandWrittenContainer(1, "name");
+    }
+
+    @Benchmark
+    public int readGenerated() {
+        return this.generated.getValue() + this.generated.getName().length();
+    }
+
+    @Benchmark
+    public int readHandWritten() {
+        return this.handWritten.getValue() + this.handWritten.getName().length();
+    }
+
+    @Benchmark
+    public int writeGenerated() {
+        this.generated.setValue(this.generated.getValue() + 1);
+        return this.generated.getValue();
+    }
+
+    @Benchmark
+    public int writeHandWritten() {
+        this.handWritten.setValue(this.handWritten.getValue() + 1);
+        return this.handWritten.getValue();
+    }
+
+    public interface Container {
+
+        int getValue();
+
+        void setValue(int value);
+
+        String getName();
+
+    }
+
+    public static final class HandWrittenContainer implements Container {
+
+        private int value;
+        private final String name;
+
+        public HandWrittenContainer(int value, String name) {
+            this.value = value;
+            this.name = name;
+        }
+
+        @Override
+        public int getValue() {
+            return this.value;
+        }
+
+        @Override
+        public void setValue(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+import org.spongepowered.api.event.state.ConstructionEvent;
+import org.spongepowered.api.event.state.InitializationEvent;
+import org.spongepowered.api.event.state.LoadCompleteEvent;
+import org.spongepowered.api.event.state.PostInitializationEvent;
+import org.spongepowered.api.event.state.PreInitializationEvent;
+import org.spongepowered.api.event.state.ServerAboutToStartEvent;
+import org.spongepowered.api.event.state.ServerStartedEvent;
+import org.spongepowered.api.event.state.ServerStartingEvent;
+import org.spongepowered.api.event.state.ServerStoppedEvent;
+import org.spongepowered.api.event.state.ServerStoppingEvent;
+import org.spongepowered.api.event.state.StateEvent;
+import org.spongepowered.api.util.event.factory.ClassGeneratorProvider;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates the event classes used by {@link SpongeEventFactory} ahead of
+ * time, so that they can be packaged and loaded directly instead of being
+ * generated the first time each event is created.
+ *
+ * <p>The only argument is the directory to write the generated classes
+ * to.</p>
+ */
+public final class EventClassPregenerator {
+
+    private static final List<Class<? extends StateEvent>> stateEvents = ImmutableList.of(
+            ConstructionEvent.class,
+            PreInitializationEvent.class,
+            InitializationEvent.class,
+            PostInitializationEvent.class,
+            LoadCompleteEvent.class,
+            ServerAboutToStartEvent.class,
+            ServerStartingEvent.class,
+            ServerStartedEvent.class,
+            ServerStoppingEvent.class,
+            ServerStoppedEvent.class);
+
+    private EventClassPregenerator() {
+    }
+
+    /**
+     * Gets all event types that are created by {@link SpongeEventFactory}.
+     *
+     * @return The event types
+     */
+    public static Set<Class<?>> getEventTypes() {
+        Set<Class<?>> types = Sets.newLinkedHashSet();
+        for (Method method : SpongeEventFactory.class.getMethods()) {
+            Class<?> type = method.getReturnType();
+            if (Modifier.isStatic(method.getModifiers()) && method.getGenericReturnType() == type && type.isInterface()
+                    && Event.class.isAssignableFrom(type)) {
+                types.add(type);
+            }
+        }
+        types.addAll(stateEvents);
+        return types;
+    }
+
+    /**
+     * Generates the event classes into the directory given as the only
+     * argument.
+     *
+     * @param args The command line arguments
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("Usage: " + EventClassPregenerator.class.getName() + " <output directory>");
+            System.exit(1);
+        }
+
+        File outputDirectory = new File(args[0]);
+        ClassGeneratorProvider provider = SpongeEventFactory.getFactoryProvider();
+        provider.setUsePregeneratedClasses(false);
+        provider.getClassLoader().setOutputDirectory(outputDirectory);
+
+        Set<Class<?>> types = getEventTypes();
+        for (Class<?> type : types) {
+            SpongeEventFactory.getFactory(type);
+        }
+
+        System.out.println("Generated classes for " + types.size() + " events in " + outputDirectory);
+    }
+
+}
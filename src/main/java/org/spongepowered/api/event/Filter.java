@@ -0,0 +1,90 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.CauseTracked;
+import org.spongepowered.api.event.entity.EntityEvent;
+import org.spongepowered.api.event.world.WorldEvent;
+import org.spongepowered.api.util.Tristate;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Restricts the events a {@link Subscribe}d method is called for.
+ *
+ * <p>The filters are checked by the generated {@link EventHandler} before
+ * the method is called, so events that do not match cost no more than a
+ * few type checks. An event has to match every filter that is set.</p>
+ */
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface Filter {
+
+    /**
+     * The types of entities the handler should be called for. If set, the
+     * handler is only called for {@link EntityEvent}s whose entity is an
+     * instance of at least one of these types.
+     *
+     * @return The entity types, or an empty array to allow all events
+     */
+    Class<? extends Entity>[] entity() default {};
+
+    /**
+     * The names of the worlds the handler should be called for. If set, the
+     * handler is only called for {@link WorldEvent}s in one of these worlds
+     * and for {@link EntityEvent}s whose entity is in one of them.
+     *
+     * @return The world names, or an empty array to allow all events
+     */
+    String[] world() default {};
+
+    /**
+     * The types of root causes the handler should be called for. If set, the
+     * handler is only called for {@link CauseTracked} events whose root
+     * {@link Cause}, the one without a parent, is an instance of at least one
+     * of these types.
+     *
+     * @return The cause types, or an empty array to allow all events
+     */
+    Class<?>[] causeRoot() default {};
+
+    /**
+     * The {@link Cancellable} state the handler should be called for. If
+     * {@link Tristate#TRUE}, the handler is only called for cancelled events,
+     * which also requires {@link Subscribe#ignoreCancelled()} to be disabled.
+     * If {@link Tristate#FALSE}, the handler is only called for events that
+     * are not cancelled, including events that cannot be cancelled.
+     *
+     * @return The cancelled state, or {@link Tristate#UNDEFINED} to allow all events
+     */
+    Tristate cancelled() default Tristate.UNDEFINED;
+
+}
@@ -24,13 +24,19 @@
  */
 package org.spongepowered.api.event;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.base.Optional;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
 import org.spongepowered.api.Game;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.tileentity.Sign;
@@ -150,7 +156,9 @@
 import org.spongepowered.api.util.event.factory.ClassGeneratorProvider;
 import org.spongepowered.api.util.event.factory.EventFactory;
 import org.spongepowered.api.util.event.factory.EventFactoryPlugin;
+import org.spongepowered.api.util.event.factory.EventPool;
 import org.spongepowered.api.util.event.factory.NullPolicy;
+import org.spongepowered.api.util.event.factory.ResettableEvent;
 import org.spongepowered.api.util.event.factory.plugin.AccessorModifierEventFactoryPlugin;
 import org.spongepowered.api.util.event.factory.plugin.AnnotationEventFactoryPlugin;
 import org.spongepowered.api.world.Chunk;
@@ -163,10 +171,12 @@
 import org.spongepowered.api.world.weather.Weather;
 import org.spongepowered.api.world.weather.WeatherUniverse;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nullable;
 
@@ -177,7 +187,8 @@ public final class SpongeEventFactory {
 
     private static final ClassGeneratorProvider factoryProvider;
     private static final LoadingCache<Class<?>, EventFactory<?>> factories;
-    private static final List<EventFactoryPlugin> plugins = new ArrayList<EventFactoryPlugin>();
+    private static final LoadingCache<Class<?>, EventFactory<?>> resettableFactories;
+    private static final List<EventFactoryPlugin> plugins = new CopyOnWriteArrayList<EventFactoryPlugin>();
 
     static {
         factoryProvider = new ClassGeneratorProvider("org.spongepowered.api.event.impl");
@@ -191,9 +202,21 @@ public final class SpongeEventFactory {
                         new CacheLoader<Class<?>, EventFactory<?>>() {
                             @Override
                             public EventFactory<?> load(Class<?> type) {
+                                Optional<? extends EventFactory<?>> pregenerated = factoryProvider.getPregenerated(type);
+                                if (pregenerated.isPresent()) {
+                                    return pregenerated.get();
+                                }
                                 return factoryProvider.create(type, getBaseClass(type));
                             }
                         });
+        resettableFactories = CacheBuilder.newBuilder()
+                .build(
+                        new CacheLoader<Class<?>, EventFactory<?>>() {
+                            @Override
+                            public EventFactory<?> load(Class<?> type) {
+                                return factoryProvider.createResettable(type, getBaseClass(type));
+                            }
+                        });
     }
 
     private SpongeEventFactory() {
@@ -212,12 +235,86 @@ private static Class<?> getBaseClass(Class<?> event) {
      *
      * <p>The plugin chain is in LIFO order.</p>
      *
+     * <p>As event classes generated ahead of time may not match the
+     * modified chain, this disables the use of pregenerated classes.</p>
+     *
      * @param plugin The {@link EventFactoryPlugin} to add to the chain
      */
     public static void addEventFactoryPlugin(EventFactoryPlugin plugin) {
+        factoryProvider.setUsePregeneratedClasses(false);
         plugins.add(0, plugin);
     }
 
+    /**
+     * Generates the event classes for the given event interfaces in
+     * parallel, so that no classes have to be generated the first time
+     * these events are created.
+     *
+     * <p>Each event interface is generated as a separate task on the given
+     * executor. Event interfaces whose classes have already been generated
+     * or loaded are skipped.</p>
+     *
+     * @param types The event interfaces to generate classes for
+     * @param executor The executor to generate the classes on
+     * @return A future that completes once all classes have been generated
+     */
+    public static ListenableFuture<?> warmUp(Collection<Class<?>> types, Executor executor) {
+        checkNotNull(types, "types");
+        checkNotNull(executor, "executor");
+
+        List<ListenableFuture<EventFactory<?>>> futures = Lists.newArrayListWithCapacity(types.size());
+        for (final Class<?> type : types) {
+            ListenableFutureTask<EventFactory<?>> task = ListenableFutureTask.create(new Callable<EventFactory<?>>() {
+                @Override
+                public EventFactory<?> call() {
+                    return getFactory(type);
+                }
+            });
+            executor.execute(task);
+            futures.add(task);
+        }
+        return Futures.allAsList(futures);
+    }
+
+    /**
+     * Gets the provider used to create event factories.
+     *
+     * @return The factory provider
+     */
+    static ClassGeneratorProvider getFactoryProvider() {
+        return factoryProvider;
+    }
+
+    /**
+     * Gets the factory for the given event type, creating it if necessary.
+     *
+     * @param type The event interface
+     * @return The event factory
+     */
+    static EventFactory<?> getFactory(Class<?> type) {
+        return factories.getUnchecked(type);
+    }
+
+    /**
+     * Creates a pool of reusable events of the given type, for events that
+     * are fired so frequently that allocating a new instance for each of
+     * them is a concern.
+     *
+     * <p>Events acquired from the pool should be released after they have
+     * been posted. Event handlers that keep a reference to such an event
+     * must {@link ResettableEvent#retain() retain} it.</p>
+     *
+     * @param type The event interface
+     * @param maxSize The maximum number of released events kept per thread
+     * @param <T> The type of the event
+     * @return The event pool
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EventPool<T> newEventPool(Class<T> type, int maxSize) {
+        checkNotNull(type, "type");
+        return new EventPool<T>((EventFactory<T>) resettableFactories.getUnchecked(type), maxSize);
+    }
+
     /**
      * Creates an event class from an interface and a map of property names to values.
      *
@@ -227,7 +324,7 @@ public static void addEventFactoryPlugin(EventFactoryPlugin plugin) {
      */
     @SuppressWarnings("unchecked")
     public static <T> T createEvent(Class<T> type, Map<String, Object> values) {
-        return (T) factories.getUnchecked(type).apply(values);
+        return (T) getFactory(type).apply(values);
     }
 
     /**
@@ -36,6 +36,8 @@
  * Used to annotate a method as an {@link EventHandler}.
  * <p>
  * The method being targeted must be public and must be in a class that is also public.
+ *
+ * @see Filter
  */
 @Retention(RUNTIME)
 @Target(METHOD)
@@ -57,4 +59,15 @@
      */
     boolean ignoreCancelled() default true;
 
+    /**
+     * Whether this handler is safe to be called from a thread other than
+     * the main thread. Only handlers that enable this will be called
+     * asynchronously for events posted through
+     * {@link EventManager#postAsync(org.spongepowered.api.event.Event, java.util.concurrent.Executor)},
+     * all other handlers are still called on the posting thread.
+     *
+     * @return If the handler may be called asynchronously
+     */
+    boolean async() default false;
+
 }
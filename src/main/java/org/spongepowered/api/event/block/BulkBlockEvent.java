@@ -48,6 +48,10 @@ public interface BulkBlockEvent extends GameEvent, CauseTracked {
      * the list is dependent on the event, though it may "cancel" the event
      * for the removed block .</p>
      *
+     * <p>Events affecting many blocks may be created with a
+     * {@link PackedBlockList}, which only creates {@link Location}s for the
+     * blocks that are accessed.</p>
+     *
      * @return An list of blocks
      */
     List<Location> getBlocks();
@@ -64,4 +68,15 @@ public interface BulkBlockEvent extends GameEvent, CauseTracked {
      */
     void filter(Predicate<Location> predicate);
 
+    /**
+     * Apply the given predicate to the positions of the blocks.
+     *
+     * <p>This works like {@link #filter(Predicate)}, but if the list of
+     * blocks is a {@link PackedBlockList}, no {@link Location} is created
+     * to test a block.</p>
+     *
+     * @param predicate A predicate that returns false to remove the given block
+     */
+    void filter(BlockPositionPredicate predicate);
+
 }
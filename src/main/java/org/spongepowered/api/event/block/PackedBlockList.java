@@ -0,0 +1,371 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.block;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A list of block locations that stores the positions of the blocks of each
+ * extent as packed {@code long}s, for events that affect a large number of
+ * blocks.
+ *
+ * <p>{@link Location}s are only created when elements are accessed through
+ * the {@link List} interface. Use {@link #filter(BlockPositionPredicate)}
+ * to test every block without creating any objects.</p>
+ *
+ * <p>Blocks can be removed, which marks them in a bit set instead of moving
+ * the remaining positions. Removing or accessing an element by index after
+ * blocks were removed takes linear time, so iterating the list should be
+ * preferred. Blocks cannot be added once the list has been built.</p>
+ *
+ * <p>This list is not thread-safe.</p>
+ */
+public final class PackedBlockList extends AbstractList<Location> {
+
+    private static final int XZ_BITS = 26;
+    private static final int Y_BITS = 12;
+    private static final long XZ_MASK = (1L << XZ_BITS) - 1;
+    private static final long Y_MASK = (1L << Y_BITS) - 1;
+    private static final int Z_SHIFT = Y_BITS;
+    private static final int X_SHIFT = Y_BITS + XZ_BITS;
+
+    /**
+     * The minimum x and z coordinate that can be packed.
+     */
+    public static final int MIN_XZ = -(1 << (XZ_BITS - 1));
+
+    /**
+     * The maximum x and z coordinate that can be packed.
+     */
+    public static final int MAX_XZ = (1 << (XZ_BITS - 1)) - 1;
+
+    /**
+     * The minimum y coordinate that can be packed.
+     */
+    public static final int MIN_Y = -(1 << (Y_BITS - 1));
+
+    /**
+     * The maximum y coordinate that can be packed.
+     */
+    public static final int MAX_Y = (1 << (Y_BITS - 1)) - 1;
+
+    private final Extent[] extents;
+    private final long[][] positions;
+    // The index of the first position of each extent, followed by the total number of positions
+    private final int[] offsets;
+    private final BitSet removed = new BitSet();
+    private int removedCount;
+
+    private PackedBlockList(Extent[] extents, long[][] positions) {
+        this.extents = extents;
+        this.positions = positions;
+        this.offsets = new int[extents.length + 1];
+        for (int i = 0; i < extents.length; i++) {
+            this.offsets[i + 1] = this.offsets[i] + positions[i].length;
+        }
+    }
+
+    /**
+     * Create a new builder.
+     *
+     * @return A new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Pack a block position into a {@code long}.
+     *
+     * @param x The x coordinate, between {@link #MIN_XZ} and {@link #MAX_XZ}
+     * @param y The y coordinate, between {@link #MIN_Y} and {@link #MAX_Y}
+     * @param z The z coordinate, between {@link #MIN_XZ} and {@link #MAX_XZ}
+     * @return The packed position
+     */
+    public static long pack(int x, int y, int z) {
+        checkArgument(x >= MIN_XZ && x <= MAX_XZ, "x is out of range: %s", x);
+        checkArgument(y >= MIN_Y && y <= MAX_Y, "y is out of range: %s", y);
+        checkArgument(z >= MIN_XZ && z <= MAX_XZ, "z is out of range: %s", z);
+        return (x & XZ_MASK) << X_SHIFT | (z & XZ_MASK) << Z_SHIFT | (y & Y_MASK);
+    }
+
+    /**
+     * Get the x coordinate of a packed position.
+     *
+     * @param position The packed position
+     * @return The x coordinate
+     */
+    public static int unpackX(long position) {
+        return (int) (position >> X_SHIFT);
+    }
+
+    /**
+     * Get the y coordinate of a packed position.
+     *
+     * @param position The packed position
+     * @return The y coordinate
+     */
+    public static int unpackY(long position) {
+        return (int) (position << (64 - Y_BITS) >> (64 - Y_BITS));
+    }
+
+    /**
+     * Get the z coordinate of a packed position.
+     *
+     * @param position The packed position
+     * @return The z coordinate
+     */
+    public static int unpackZ(long position) {
+        return (int) (position << (64 - X_SHIFT) >> (64 - XZ_BITS));
+    }
+
+    /**
+     * Get the extents of the blocks in this list.
+     *
+     * @return The extents
+     */
+    public List<Extent> getExtents() {
+        return ImmutableList.copyOf(this.extents);
+    }
+
+    /**
+     * Apply the given predicate to every block that has not been removed,
+     * and remove the blocks for which it returns {@code false}.
+     *
+     * @param predicate A predicate that returns false to remove the given block
+     */
+    public void filter(BlockPositionPredicate predicate) {
+        checkNotNull(predicate, "predicate");
+        for (int i = 0; i < this.extents.length; i++) {
+            Extent extent = this.extents[i];
+            long[] shard = this.positions[i];
+            int offset = this.offsets[i];
+            for (int j = 0; j < shard.length; j++) {
+                int index = offset + j;
+                if (!this.removed.get(index)) {
+                    long position = shard[j];
+                    if (!predicate.apply(extent, unpackX(position), unpackY(position), unpackZ(position))) {
+                        markRemoved(index);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.offsets[this.extents.length] - this.removedCount;
+    }
+
+    @Override
+    public Location get(int index) {
+        return createLocation(toRawIndex(index));
+    }
+
+    @Override
+    public Location remove(int index) {
+        int rawIndex = toRawIndex(index);
+        Location location = createLocation(rawIndex);
+        markRemoved(rawIndex);
+        return location;
+    }
+
+    @Override
+    public void clear() {
+        int total = this.offsets[this.extents.length];
+        if (this.removedCount != total) {
+            this.removed.set(0, total);
+            this.removedCount = total;
+            this.modCount++;
+        }
+    }
+
+    @Override
+    public Iterator<Location> iterator() {
+        return new Itr();
+    }
+
+    private void markRemoved(int rawIndex) {
+        this.removed.set(rawIndex);
+        this.removedCount++;
+        this.modCount++;
+    }
+
+    private int toRawIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+        if (this.removedCount == 0) {
+            return index;
+        }
+        int rawIndex = this.removed.nextClearBit(0);
+        for (int i = 0; i < index; i++) {
+            rawIndex = this.removed.nextClearBit(rawIndex + 1);
+        }
+        return rawIndex;
+    }
+
+    private Location createLocation(int rawIndex) {
+        int shard = Arrays.binarySearch(this.offsets, 0, this.extents.length, rawIndex);
+        if (shard < 0) {
+            shard = -shard - 2;
+        }
+        long position = this.positions[shard][rawIndex - this.offsets[shard]];
+        return new Location(this.extents[shard], unpackX(position), unpackY(position), unpackZ(position));
+    }
+
+    private final class Itr implements Iterator<Location> {
+
+        private int next = PackedBlockList.this.removed.nextClearBit(0);
+        private int last = -1;
+        private int expectedModCount = PackedBlockList.this.modCount;
+
+        @Override
+        public boolean hasNext() {
+            return this.next < PackedBlockList.this.offsets[PackedBlockList.this.extents.length];
+        }
+
+        @Override
+        public Location next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.last = this.next;
+            this.next = PackedBlockList.this.removed.nextClearBit(this.next + 1);
+            return createLocation(this.last);
+        }
+
+        @Override
+        public void remove() {
+            if (this.last == -1) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            markRemoved(this.last);
+            this.last = -1;
+            this.expectedModCount = PackedBlockList.this.modCount;
+        }
+
+        private void checkForComodification() {
+            if (PackedBlockList.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+    }
+
+    /**
+     * A builder for {@link PackedBlockList}s.
+     */
+    public static final class Builder {
+
+        private final Map<Extent, Shard> shards = Maps.newLinkedHashMap();
+
+        private Builder() {
+        }
+
+        /**
+         * Add a block.
+         *
+         * @param location The location of the block
+         * @return This builder, for chaining
+         */
+        public Builder add(Location location) {
+            checkNotNull(location, "location");
+            return add(location.getExtent(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        }
+
+        /**
+         * Add a block.
+         *
+         * @param extent The extent of the block
+         * @param x The x coordinate of the block
+         * @param y The y coordinate of the block
+         * @param z The z coordinate of the block
+         * @return This builder, for chaining
+         */
+        public Builder add(Extent extent, int x, int y, int z) {
+            checkNotNull(extent, "extent");
+            Shard shard = this.shards.get(extent);
+            if (shard == null) {
+                shard = new Shard();
+                this.shards.put(extent, shard);
+            }
+            shard.add(pack(x, y, z));
+            return this;
+        }
+
+        /**
+         * Build a list with the added blocks. The blocks of each extent are
+         * kept in the order they were added in, and the extents in the
+         * order their first block was added in.
+         *
+         * @return The list
+         */
+        public PackedBlockList build() {
+            Extent[] extents = new Extent[this.shards.size()];
+            long[][] positions = new long[extents.length][];
+            int i = 0;
+            for (Map.Entry<Extent, Shard> entry : this.shards.entrySet()) {
+                extents[i] = entry.getKey();
+                positions[i] = Arrays.copyOf(entry.getValue().positions, entry.getValue().size);
+                i++;
+            }
+            return new PackedBlockList(extents, positions);
+        }
+
+    }
+
+    private static final class Shard {
+
+        long[] positions = new long[16];
+        int size;
+
+        void add(long position) {
+            if (this.size == this.positions.length) {
+                this.positions = Arrays.copyOf(this.positions, this.size * 2);
+            }
+            this.positions[this.size++] = position;
+        }
+
+    }
+
+}
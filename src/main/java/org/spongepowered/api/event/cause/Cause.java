@@ -27,10 +27,14 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.event.cause.reason.Reason;
 import org.spongepowered.api.world.Location;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import javax.annotation.Nullable;
 
 /**
@@ -47,12 +51,27 @@
  * circuit, which would then launch TNT and cause the destruction of
  * some blocks, but tracing this event would be too complicated and thus
  * may not be attempted.</p>
+ *
+ * <p>The causing objects of a chain are stored in a single array, which is
+ * shared when a cause is extended with its first child, so that the objects
+ * of the chain can be accessed by index and searched by type without walking
+ * the parents. Further children of the same cause copy the part of the array
+ * that belongs to their parent. The results of the last few lookups by type
+ * are cached per cause.</p>
  */
 public class Cause {
 
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int MAX_LOOKUPS = 4;
+    private static final Object[] NO_LOOKUPS = new Object[0];
+
     private final Optional<Cause> parent;
     private final Object cause;
     private final Optional<Reason> reason;
+    private final Chain chain;
+    private final int size;
+    // Pairs of a type and the result of its lookup, copied on write
+    private volatile Object[] lookups = NO_LOOKUPS;
 
     /**
      * Create a new cause instance.
@@ -66,6 +85,46 @@ public Cause(@Nullable Cause parent, Object cause, @Nullable Reason reason) {
         this.parent = Optional.fromNullable(parent);
         this.cause = cause;
         this.reason = Optional.fromNullable(reason);
+
+        if (parent == null) {
+            this.chain = new Chain(new Object[INITIAL_CAPACITY], 1);
+            this.size = 1;
+        } else {
+            Chain parentChain = parent.chain;
+            int parentSize = parent.size;
+            // Share the array of the parent if this is the first child to be
+            // appended to it, otherwise copy the part that belongs to the parent
+            if (parentSize < parentChain.causes.length && parentChain.length.compareAndSet(parentSize, parentSize + 1)) {
+                this.chain = parentChain;
+            } else {
+                Object[] causes = new Object[Math.max(parentSize * 2, INITIAL_CAPACITY)];
+                System.arraycopy(parentChain.causes, 0, causes, 0, parentSize);
+                this.chain = new Chain(causes, parentSize + 1);
+            }
+            this.size = parentSize + 1;
+        }
+        this.chain.causes[this.size - 1] = cause;
+    }
+
+    /**
+     * Create a new cause with this cause as its parent.
+     *
+     * @param cause The causing object (may be a block, entity, etc.)
+     * @return The new cause
+     */
+    public Cause with(Object cause) {
+        return new Cause(this, cause, null);
+    }
+
+    /**
+     * Create a new cause with this cause as its parent.
+     *
+     * @param cause The causing object (may be a block, entity, etc.)
+     * @param reason An optional reason
+     * @return The new cause
+     */
+    public Cause with(Object cause, @Nullable Reason reason) {
+        return new Cause(this, cause, reason);
     }
 
     /**
@@ -96,4 +155,105 @@ public Optional<Reason> getReason() {
         return this.reason;
     }
 
+    /**
+     * Get the number of causing objects in the chain of this cause, which
+     * includes this cause and all its parents.
+     *
+     * @return The number of causing objects
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Get a causing object in the chain of this cause by its index, where
+     * {@code 0} is the object of this cause and {@code size() - 1} is the
+     * object of the root cause.
+     *
+     * @param index The index
+     * @return The causing object
+     * @throws IndexOutOfBoundsException If the index is out of range
+     */
+    public Object get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + this.size);
+        }
+        return this.chain.causes[this.size - 1 - index];
+    }
+
+    /**
+     * Get the causing object of the root cause, which is the cause in the
+     * chain that has no parent.
+     *
+     * @return The causing object of the root cause
+     */
+    public Object getRootCause() {
+        return this.chain.causes[0];
+    }
+
+    /**
+     * Get the first causing object in the chain of this cause that is an
+     * instance of the given type, starting from this cause towards the root.
+     *
+     * @param type The type
+     * @param <T> The type of the object
+     * @return The first object of the type, if available
+     */
+    public <T> Optional<T> first(Class<T> type) {
+        List<T> all = all(type);
+        return all.isEmpty() ? Optional.<T>absent() : Optional.of(all.get(0));
+    }
+
+    /**
+     * Get all causing objects in the chain of this cause that are instances
+     * of the given type, ordered from this cause towards the root.
+     *
+     * @param type The type
+     * @param <T> The type of the objects
+     * @return The objects of the type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> all(Class<T> type) {
+        checkNotNull(type, "type");
+        Object[] lookups = this.lookups;
+        for (int i = 0; i < lookups.length; i += 2) {
+            if (lookups[i] == type) {
+                return (List<T>) lookups[i + 1];
+            }
+        }
+        ImmutableList.Builder<T> builder = ImmutableList.builder();
+        for (int i = this.size - 1; i >= 0; i--) {
+            Object object = this.chain.causes[i];
+            if (type.isInstance(object)) {
+                builder.add((T) object);
+            }
+        }
+        List<T> result = builder.build();
+        // Keep the most recent lookups only. Racing lookups may drop each
+        // other's entries, which is harmless.
+        int kept = Math.min(lookups.length, (MAX_LOOKUPS - 1) * 2);
+        Object[] updated = new Object[kept + 2];
+        System.arraycopy(lookups, lookups.length - kept, updated, 0, kept);
+        updated[kept] = type;
+        updated[kept + 1] = result;
+        this.lookups = updated;
+        return result;
+    }
+
+    /**
+     * The array of causing objects, which is shared by all causes whose
+     * objects are a prefix of it.
+     */
+    private static final class Chain {
+
+        final Object[] causes;
+        final AtomicInteger length;
+
+        Chain(Object[] causes, int length) {
+            this.causes = causes;
+            this.length = new AtomicInteger(length);
+        }
+
+    }
+
 }
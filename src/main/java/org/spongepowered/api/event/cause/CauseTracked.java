@@ -35,7 +35,9 @@ public interface CauseTracked {
      * Get the last cause.
      *
      * <p>Parent causes, including possibly the root cause, can be
-     * retrieved using {@link Cause#getParent()}.</p>
+     * retrieved using {@link Cause#getParent()}, and the objects of the
+     * whole chain with {@link Cause#first(Class)} and
+     * {@link Cause#all(Class)}.</p>
      *
      * @return The last cause
      */
@@ -28,12 +28,16 @@
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.GameEvent;
+import org.spongepowered.api.util.annotation.ImplementedBy;
+import org.spongepowered.api.util.event.superclasses.AbstractBulkEntityEvent;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * An event that involves multiple entities at once.
  */
+@ImplementedBy(AbstractBulkEntityEvent.class)
 public interface BulkEntityEvent extends GameEvent {
 
     /**
@@ -61,4 +65,27 @@ public interface BulkEntityEvent extends GameEvent {
      */
     void filter(Predicate<Entity> predicate);
 
+    /**
+     * Apply the given predicate to the list of entities, testing the
+     * entities in parallel on the given executor.
+     *
+     * <p>This has the same effect as {@link #filter(Predicate)}: the
+     * entities for which the predicate returns {@code false} are removed,
+     * and the remaining entities keep their order. The entities are split
+     * into partitions that are tested concurrently, after which the
+     * entities are removed on the calling thread. This method returns once
+     * all entities have been tested. Small lists are tested on the calling
+     * thread only.</p>
+     *
+     * <p>The predicate must be thread-safe and is called from threads other
+     * than the main thread, so it may only use {@link Entity#getUniqueId()}
+     * and {@link Entity#getType()}, whose values never change, and state the
+     * predicate captured before this method was called. All other methods of
+     * {@link Entity} must not be called by the predicate.</p>
+     *
+     * @param predicate A thread-safe predicate that returns false to remove the given entity
+     * @param executor The executor to test the entities on
+     */
+    void filter(Predicate<Entity> predicate, Executor executor);
+
 }
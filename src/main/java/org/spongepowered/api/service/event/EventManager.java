@@ -24,11 +24,16 @@
  */
 package org.spongepowered.api.service.event;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventHandler;
 import org.spongepowered.api.event.Order;
 import org.spongepowered.api.event.Subscribe;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+
 /**
  * Manages the registration of event handlers and the dispatching of events.
  */
@@ -93,6 +98,20 @@ public interface EventManager {
      */
     void unregisterPlugin(Object plugin);
 
+    /**
+     * Checks whether any handler is currently registered that would receive
+     * an event of the given type, either directly or through one of its
+     * supertypes.
+     *
+     * <p>This check is intended to be cheap enough to call before every
+     * event, so that high frequency events do not have to be constructed
+     * at all when nobody is listening for them.</p>
+     *
+     * @param eventClass The type of the event
+     * @return Whether there are any handlers for the event type
+     */
+    boolean hasListeners(Class<? extends Event> eventClass);
+
     /**
      * Calls a {@link Event} to all handlers that handle it.
      *
@@ -101,4 +120,72 @@ public interface EventManager {
      */
     boolean post(Event event);
 
+    /**
+     * Calls a number of {@link Event}s to all handlers that handle them.
+     *
+     * <p>The handlers are resolved only once for each event class in the
+     * list. Each handler is then called for all events of that class before
+     * the next handler is called, instead of calling every handler for one
+     * event before moving on to the next event. Events of different classes
+     * are dispatched in the order their class first appears in the list.</p>
+     *
+     * <p>Whether an event was cancelled can be checked on the event itself
+     * after this method returns.</p>
+     *
+     * @param events The events
+     */
+    void postAll(List<? extends Event> events);
+
+    /**
+     * Calls a {@link Event} to all handlers that handle it, moving the
+     * handlers that are safe to be called asynchronously off the calling
+     * thread.
+     *
+     * <p>All handlers that have not declared themselves as
+     * {@link Subscribe#async() async} are called on the calling thread
+     * before this method returns, in the same way as {@link #post(Event)}.
+     * The asynchronous handlers are then called one after another on the
+     * given executor, still in their {@link Order}. They will observe the
+     * changes made to the event by the synchronous handlers.</p>
+     *
+     * <p>This should only be used for events that do not have to be
+     * completed on the main thread, such as chat or rcon events.</p>
+     *
+     * @param event The event
+     * @param executor The executor to call asynchronous handlers on
+     * @return A future that completes with true if the event was cancelled
+     *         after all handlers have been called, false if not
+     */
+    ListenableFuture<Boolean> postAsync(Event event, Executor executor);
+
+    /**
+     * Gets whether the time spent in each event handler is currently being
+     * recorded.
+     *
+     * @return Whether timings are enabled
+     */
+    boolean isTimingsEnabled();
+
+    /**
+     * Sets whether the time spent in each event handler should be recorded.
+     *
+     * <p>Recording adds a small overhead to every handler call, so it is
+     * disabled by default.</p>
+     *
+     * @param enabled Whether timings should be enabled
+     */
+    void setTimingsEnabled(boolean enabled);
+
+    /**
+     * Gets a snapshot of the timings recorded for all registered handlers.
+     *
+     * @return The timings of all handlers
+     */
+    Collection<HandlerTimings> getTimings();
+
+    /**
+     * Resets the timings recorded for all registered handlers.
+     */
+    void resetTimings();
+
 }
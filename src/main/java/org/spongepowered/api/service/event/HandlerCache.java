@@ -0,0 +1,197 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import com.google.common.base.Predicate;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.MapMaker;
+import com.google.common.reflect.TypeToken;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves the handlers that apply to a concrete event class.
+ *
+ * <p>A handler registered for an event type receives every event
+ * implementing that type, so the handlers of all supertypes of an event
+ * class are flattened into a single array, sorted by
+ * {@link org.spongepowered.api.event.Order}, the first time that class is
+ * looked up. The registrations themselves are kept in an immutable
+ * snapshot that is replaced on every change, and only the baked arrays of
+ * classes that are subtypes of a changed event type are discarded.</p>
+ *
+ * <p>This class is thread-safe. Lookups of already baked classes never
+ * block.</p>
+ */
+final class HandlerCache {
+
+    private static final RegisteredHandler[] NO_HANDLERS = new RegisteredHandler[0];
+
+    private final Object lock = new Object();
+    private volatile ImmutableListMultimap<Class<?>, RegisteredHandler> handlersByEvent = ImmutableListMultimap.of();
+    private final ConcurrentMap<Class<?>, RegisteredHandler[]> bakedHandlers = new MapMaker().weakKeys().makeMap();
+
+    private final LoadingCache<Class<?>, Set<Class<?>>> hierarchies = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<Class<?>, Set<Class<?>>>() {
+                @Override
+                public Set<Class<?>> load(Class<?> type) {
+                    return ImmutableSet.<Class<?>>copyOf(TypeToken.of(type).getTypes().rawTypes());
+                }
+            });
+
+    /**
+     * Gets the handlers for a concrete event class, sorted by order.
+     *
+     * <p>The class may also be an event interface, in which case the
+     * handlers registered for it and its supertypes are returned. Once a
+     * class has been baked, this is a single lock-free map lookup.</p>
+     *
+     * <p>The returned array must not be modified.</p>
+     *
+     * @param eventClass The class of the event
+     * @return The handlers
+     */
+    RegisteredHandler[] get(Class<?> eventClass) {
+        RegisteredHandler[] baked = this.bakedHandlers.get(eventClass);
+        if (baked == null) {
+            baked = bake(eventClass);
+        }
+        return baked;
+    }
+
+    /**
+     * Gets all registered handlers.
+     *
+     * @return An immutable collection of the handlers
+     */
+    Collection<RegisteredHandler> getAll() {
+        return this.handlersByEvent.values();
+    }
+
+    /**
+     * Adds a number of handlers.
+     *
+     * @param handlers The handlers to add
+     */
+    void addAll(Collection<RegisteredHandler> handlers) {
+        if (handlers.isEmpty()) {
+            return;
+        }
+
+        synchronized (this.lock) {
+            ImmutableListMultimap.Builder<Class<?>, RegisteredHandler> builder = ImmutableListMultimap.builder();
+            builder.putAll(this.handlersByEvent);
+            Set<Class<?>> changed = new HashSet<Class<?>>();
+            for (RegisteredHandler handler : handlers) {
+                builder.put(handler.eventClass, handler);
+                changed.add(handler.eventClass);
+            }
+            this.handlersByEvent = builder.build();
+            invalidate(changed);
+        }
+    }
+
+    /**
+     * Removes all handlers matching the given predicate.
+     *
+     * @param predicate The predicate
+     * @return Whether any handler was removed
+     */
+    boolean removeAll(Predicate<? super RegisteredHandler> predicate) {
+        synchronized (this.lock) {
+            ImmutableListMultimap.Builder<Class<?>, RegisteredHandler> builder = ImmutableListMultimap.builder();
+            Set<Class<?>> changed = new HashSet<Class<?>>();
+            for (Map.Entry<Class<?>, RegisteredHandler> entry : this.handlersByEvent.entries()) {
+                if (predicate.apply(entry.getValue())) {
+                    changed.add(entry.getKey());
+                } else {
+                    builder.put(entry);
+                }
+            }
+
+            if (changed.isEmpty()) {
+                return false;
+            }
+
+            this.handlersByEvent = builder.build();
+            invalidate(changed);
+            return true;
+        }
+    }
+
+    private void invalidate(Set<Class<?>> changed) {
+        for (Iterator<Class<?>> it = this.bakedHandlers.keySet().iterator(); it.hasNext(); ) {
+            Class<?> eventClass = it.next();
+            for (Class<?> type : changed) {
+                if (type.isAssignableFrom(eventClass)) {
+                    it.remove();
+                    break;
+                }
+            }
+        }
+    }
+
+    private RegisteredHandler[] bake(Class<?> eventClass) {
+        // Baking happens under the lock so that a concurrent change can not
+        // be overwritten with handlers resolved from an older snapshot
+        synchronized (this.lock) {
+            RegisteredHandler[] baked = this.bakedHandlers.get(eventClass);
+            if (baked != null) {
+                return baked;
+            }
+
+            ImmutableListMultimap<Class<?>, RegisteredHandler> handlersByEvent = this.handlersByEvent;
+            List<RegisteredHandler> applicable = new ArrayList<RegisteredHandler>();
+            for (Class<?> type : this.hierarchies.getUnchecked(eventClass)) {
+                applicable.addAll(handlersByEvent.get(type));
+            }
+
+            if (applicable.isEmpty()) {
+                baked = NO_HANDLERS;
+            } else {
+                baked = applicable.toArray(new RegisteredHandler[applicable.size()]);
+                // Arrays.sort is stable, so handlers with the same order keep their relative order
+                Arrays.sort(baked);
+            }
+
+            this.bakedHandlers.put(eventClass, baked);
+            return baked;
+        }
+    }
+
+}
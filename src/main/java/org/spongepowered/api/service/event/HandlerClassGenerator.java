@@ -0,0 +1,339 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.POP2;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_6;
+
+import com.google.common.base.Optional;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventHandler;
+import org.spongepowered.api.event.Filter;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.CauseTracked;
+import org.spongepowered.api.event.entity.EntityEvent;
+import org.spongepowered.api.event.world.WorldEvent;
+import org.spongepowered.api.util.Tristate;
+import org.spongepowered.api.world.World;
+
+import java.lang.reflect.Method;
+
+/**
+ * Generates the bytecode for {@link EventHandler}s that directly invoke a
+ * single {@link org.spongepowered.api.event.Subscribe}d method.
+ *
+ * <p>The generated class has a constructor accepting the listener object
+ * and implements {@link EventHandler#handle(Event)} as a plain virtual call
+ * to the target method, so no reflection is involved when it is called.
+ * The checks of a {@link Filter} on the method are inlined before the
+ * call.</p>
+ */
+class HandlerClassGenerator {
+
+    private static final String TARGET_FIELD = "target";
+    private static final String CANCELLABLE = Type.getInternalName(Cancellable.class);
+    private static final String ENTITY_EVENT = Type.getInternalName(EntityEvent.class);
+    private static final String WORLD_EVENT = Type.getInternalName(WorldEvent.class);
+
+    // Every filter uses its own local variables, so that their types never conflict
+    private static final int ENTITY_LOCAL = 2;
+    private static final int WORLD_LOCAL = 3;
+    private static final int WORLD_NAME_LOCAL = 4;
+    private static final int OPTIONAL_LOCAL = 5;
+    private static final int CAUSE_ROOT_LOCAL = 6;
+
+    /**
+     * Create the handler class for a method.
+     *
+     * @param method The subscribed method to invoke
+     * @param name The canonical name of the generated class
+     * @return The class' contents, to be loaded via a {@link ClassLoader}
+     */
+    public byte[] createClass(final Method method, final String name) {
+        checkNotNull(method, "method");
+        checkNotNull(name, "name");
+
+        final String internalName = name.replace('.', '/');
+        final Class<?> listenerClass = method.getDeclaringClass();
+        final String listenerName = Type.getInternalName(listenerClass);
+        final String listenerDesc = Type.getDescriptor(listenerClass);
+        final Class<?> eventClass = method.getParameterTypes()[0];
+
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, internalName, null, "java/lang/Object",
+                new String[]{Type.getInternalName(EventHandler.class)});
+
+        {
+            FieldVisitor fv = cw.visitField(ACC_PRIVATE + ACC_FINAL, TARGET_FIELD, listenerDesc, null, null);
+            fv.visitEnd();
+        }
+
+        // Create the constructor
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(Ljava/lang/Object;)V", null, null);
+            mv.visitCode();
+
+            // super()
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+
+            // this.target = (ListenerClass) target
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, listenerName);
+            mv.visitFieldInsn(PUTFIELD, internalName, TARGET_FIELD, listenerDesc);
+
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // handle(Event)
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "handle", "(" + Type.getDescriptor(Event.class) + ")V", null,
+                    new String[]{"java/lang/Exception"});
+            mv.visitCode();
+
+            Label skip = new Label();
+            Filter filter = method.getAnnotation(Filter.class);
+            if (filter != null) {
+                visitFilter(mv, filter, eventClass, skip);
+            }
+
+            // this.target.method((EventClass) event)
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, internalName, TARGET_FIELD, listenerDesc);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(eventClass));
+            if (listenerClass.isInterface()) {
+                mv.visitMethodInsn(INVOKEINTERFACE, listenerName, method.getName(), Type.getMethodDescriptor(method), true);
+            } else {
+                mv.visitMethodInsn(INVOKEVIRTUAL, listenerName, method.getName(), Type.getMethodDescriptor(method), false);
+            }
+
+            // Discard any return value
+            Class<?> returnType = method.getReturnType();
+            if (returnType == long.class || returnType == double.class) {
+                mv.visitInsn(POP2);
+            } else if (returnType != void.class) {
+                mv.visitInsn(POP);
+            }
+
+            mv.visitLabel(skip);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    /**
+     * Insert the checks of a {@link Filter}, which jump to the given label
+     * if the event in local variable 1 does not match.
+     *
+     * @param mv The method visitor
+     * @param filter The filter
+     * @param eventClass The event class accepted by the method
+     * @param skip The label to jump to if the event does not match
+     */
+    private static void visitFilter(MethodVisitor mv, Filter filter, Class<?> eventClass, Label skip) {
+        if (filter.cancelled() != Tristate.UNDEFINED) {
+            visitCancelledFilter(mv, filter.cancelled() == Tristate.TRUE, eventClass, skip);
+        }
+        if (filter.entity().length != 0) {
+            visitEntityFilter(mv, filter.entity(), eventClass, skip);
+        }
+        if (filter.world().length != 0) {
+            visitWorldFilter(mv, filter.world(), eventClass, skip);
+        }
+        if (filter.causeRoot().length != 0) {
+            visitCauseRootFilter(mv, filter.causeRoot(), eventClass, skip);
+        }
+    }
+
+    private static void visitCancelledFilter(MethodVisitor mv, boolean cancelled, Class<?> eventClass, Label skip) {
+        Label done = new Label();
+
+        // if (!(event instanceof Cancellable)) { if cancelled: return } else
+        if (!Cancellable.class.isAssignableFrom(eventClass)) {
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(INSTANCEOF, CANCELLABLE);
+            mv.visitJumpInsn(IFEQ, cancelled ? skip : done);
+        }
+
+        // if (((Cancellable) event).isCancelled() != cancelled) return
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, CANCELLABLE);
+        mv.visitMethodInsn(INVOKEINTERFACE, CANCELLABLE, "isCancelled", "()Z", true);
+        mv.visitJumpInsn(cancelled ? IFEQ : IFNE, skip);
+
+        mv.visitLabel(done);
+    }
+
+    private static void visitEntityFilter(MethodVisitor mv, Class<?>[] types, Class<?> eventClass, Label skip) {
+        // if (!(event instanceof EntityEvent)) return
+        if (!EntityEvent.class.isAssignableFrom(eventClass)) {
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(INSTANCEOF, ENTITY_EVENT);
+            mv.visitJumpInsn(IFEQ, skip);
+        }
+
+        // Entity entity = ((EntityEvent) event).getEntity()
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, ENTITY_EVENT);
+        mv.visitMethodInsn(INVOKEINTERFACE, ENTITY_EVENT, "getEntity", "()" + Type.getDescriptor(Entity.class), true);
+        mv.visitVarInsn(ASTORE, ENTITY_LOCAL);
+
+        visitInstanceOfAny(mv, ENTITY_LOCAL, types, skip);
+    }
+
+    private static void visitWorldFilter(MethodVisitor mv, String[] names, Class<?> eventClass, Label skip) {
+        String worldDesc = "()" + Type.getDescriptor(World.class);
+        Label haveWorld = new Label();
+
+        // World world = event instanceof WorldEvent ? ((WorldEvent) event).getWorld() : ((EntityEvent) event).getEntity().getWorld()
+        if (!EntityEvent.class.isAssignableFrom(eventClass)) {
+            Label notWorldEvent = new Label();
+            if (!WorldEvent.class.isAssignableFrom(eventClass)) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitTypeInsn(INSTANCEOF, WORLD_EVENT);
+                mv.visitJumpInsn(IFEQ, notWorldEvent);
+            }
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, WORLD_EVENT);
+            mv.visitMethodInsn(INVOKEINTERFACE, WORLD_EVENT, "getWorld", worldDesc, true);
+            mv.visitVarInsn(ASTORE, WORLD_LOCAL);
+            mv.visitJumpInsn(GOTO, haveWorld);
+
+            mv.visitLabel(notWorldEvent);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(INSTANCEOF, ENTITY_EVENT);
+            mv.visitJumpInsn(IFEQ, skip);
+        }
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, ENTITY_EVENT);
+        mv.visitMethodInsn(INVOKEINTERFACE, ENTITY_EVENT, "getEntity", "()" + Type.getDescriptor(Entity.class), true);
+        mv.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(Entity.class), "getWorld", worldDesc, true);
+        mv.visitVarInsn(ASTORE, WORLD_LOCAL);
+
+        mv.visitLabel(haveWorld);
+
+        // if (world == null) return
+        mv.visitVarInsn(ALOAD, WORLD_LOCAL);
+        mv.visitJumpInsn(IFNULL, skip);
+
+        // String name = world.getName()
+        mv.visitVarInsn(ALOAD, WORLD_LOCAL);
+        mv.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(World.class), "getName", "()Ljava/lang/String;", true);
+        mv.visitVarInsn(ASTORE, WORLD_NAME_LOCAL);
+
+        // if (!name.equals("a") && !name.equals("b") ...) return
+        Label match = new Label();
+        for (String name : names) {
+            mv.visitLdcInsn(name);
+            mv.visitVarInsn(ALOAD, WORLD_NAME_LOCAL);
+            mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/String", "equals", "(Ljava/lang/Object;)Z", false);
+            mv.visitJumpInsn(IFNE, match);
+        }
+        mv.visitJumpInsn(GOTO, skip);
+        mv.visitLabel(match);
+    }
+
+    private static void visitCauseRootFilter(MethodVisitor mv, Class<?>[] types, Class<?> eventClass, Label skip) {
+        final String optional = Type.getInternalName(Optional.class);
+        final String cause = Type.getInternalName(Cause.class);
+        final String causeTracked = Type.getInternalName(CauseTracked.class);
+
+        // if (!(event instanceof CauseTracked)) return
+        if (!CauseTracked.class.isAssignableFrom(eventClass)) {
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(INSTANCEOF, causeTracked);
+            mv.visitJumpInsn(IFEQ, skip);
+        }
+
+        // Optional<Cause> optional = ((CauseTracked) event).getCause()
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, causeTracked);
+        mv.visitMethodInsn(INVOKEINTERFACE, causeTracked, "getCause", "()" + Type.getDescriptor(Optional.class), true);
+        mv.visitVarInsn(ASTORE, OPTIONAL_LOCAL);
+
+        // if (!optional.isPresent()) return
+        mv.visitVarInsn(ALOAD, OPTIONAL_LOCAL);
+        mv.visitMethodInsn(INVOKEVIRTUAL, optional, "isPresent", "()Z", false);
+        mv.visitJumpInsn(IFEQ, skip);
+
+        // Object root = ((Cause) optional.get()).getRootCause()
+        mv.visitVarInsn(ALOAD, OPTIONAL_LOCAL);
+        mv.visitMethodInsn(INVOKEVIRTUAL, optional, "get", "()Ljava/lang/Object;", false);
+        mv.visitTypeInsn(CHECKCAST, cause);
+        mv.visitMethodInsn(INVOKEVIRTUAL, cause, "getRootCause", "()Ljava/lang/Object;", false);
+        mv.visitVarInsn(ASTORE, CAUSE_ROOT_LOCAL);
+
+        visitInstanceOfAny(mv, CAUSE_ROOT_LOCAL, types, skip);
+    }
+
+    private static void visitInstanceOfAny(MethodVisitor mv, int local, Class<?>[] types, Label skip) {
+        // if (!(value instanceof A || value instanceof B ...)) return
+        Label match = new Label();
+        for (Class<?> type : types) {
+            mv.visitVarInsn(ALOAD, local);
+            mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(type));
+            mv.visitJumpInsn(IFNE, match);
+        }
+        mv.visitJumpInsn(GOTO, skip);
+        mv.visitLabel(match);
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventHandler;
+import org.spongepowered.api.util.event.factory.ClassGeneratorProvider.LocalClassLoader;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates {@link EventHandler}s for {@link org.spongepowered.api.event.Subscribe}d
+ * methods by generating one invoker class per method at runtime.
+ *
+ * <p>Generated classes are defined in a {@link LocalClassLoader} that is a
+ * child of the class loader of the listener, so that plugin classes are
+ * always visible to the invoker.</p>
+ *
+ * <p>Invoker classes are cached per listener class and method signature,
+ * so registering several instances of the same listener generates its
+ * invokers only once.</p>
+ */
+class HandlerFactory {
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private final HandlerClassGenerator generator = new HandlerClassGenerator();
+    private final String targetPackage;
+
+    private final LoadingCache<ClassLoader, LocalClassLoader> classLoaders = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<ClassLoader, LocalClassLoader>() {
+                @Override
+                public LocalClassLoader load(ClassLoader parent) {
+                    return new LocalClassLoader(parent);
+                }
+            });
+
+    private final LoadingCache<Class<?>, ConcurrentMap<String, Constructor<?>>> constructors = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<Class<?>, ConcurrentMap<String, Constructor<?>>>() {
+                @Override
+                public ConcurrentMap<String, Constructor<?>> load(Class<?> listenerClass) {
+                    return new ConcurrentHashMap<String, Constructor<?>>();
+                }
+            });
+
+    /**
+     * Create a new instance.
+     *
+     * @param targetPackage The target package to place generated handler classes in
+     */
+    HandlerFactory(String targetPackage) {
+        checkNotNull(targetPackage, "targetPackage");
+        this.targetPackage = targetPackage;
+    }
+
+    /**
+     * Tests whether the given method can be used as an event handler.
+     *
+     * @param method The method
+     * @return Whether the method is a valid handler method
+     */
+    static boolean isValidHandler(Method method) {
+        int modifiers = method.getModifiers();
+        Class<?>[] parameters = method.getParameterTypes();
+        return Modifier.isPublic(modifiers)
+                && !Modifier.isStatic(modifiers)
+                && Modifier.isPublic(method.getDeclaringClass().getModifiers())
+                && parameters.length == 1
+                && Event.class.isAssignableFrom(parameters[0]);
+    }
+
+    /**
+     * Create a handler that calls the given method on the listener object.
+     *
+     * @param listener The listener object
+     * @param method The method to call
+     * @return The event handler
+     */
+    @SuppressWarnings("unchecked")
+    EventHandler<Event> create(Object listener, Method method) {
+        checkNotNull(listener, "listener");
+        checkNotNull(method, "method");
+        checkArgument(isValidHandler(method), "Method %s is not a valid event handler", method);
+
+        try {
+            return (EventHandler<Event>) getConstructor(method).newInstance(listener);
+        } catch (InstantiationException e) {
+            throw new RuntimeException("Failed to create event handler", e);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Failed to create event handler", e);
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException("Failed to create event handler", e.getCause());
+        }
+    }
+
+    private Constructor<?> getConstructor(Method method) {
+        // Method objects are copied by every reflective lookup, so they are
+        // keyed by their signature rather than by identity
+        ConcurrentMap<String, Constructor<?>> classConstructors = this.constructors.getUnchecked(method.getDeclaringClass());
+        String signature = method.getName() + Type.getMethodDescriptor(method);
+        Constructor<?> constructor = classConstructors.get(signature);
+        if (constructor == null) {
+            synchronized (classConstructors) {
+                constructor = classConstructors.get(signature);
+                if (constructor == null) {
+                    try {
+                        constructor = createHandlerClass(method).getConstructor(Object.class);
+                    } catch (NoSuchMethodException e) {
+                        throw new RuntimeException("Failed to create event handler", e);
+                    }
+                    classConstructors.put(signature, constructor);
+                }
+            }
+        }
+        return constructor;
+    }
+
+    private Class<?> createHandlerClass(Method method) {
+        Class<?> listenerClass = method.getDeclaringClass();
+        String name = this.targetPackage + "." + listenerClass.getSimpleName() + "$" + method.getName()
+                + "$" + this.counter.incrementAndGet();
+
+        ClassLoader parent = listenerClass.getClassLoader();
+        if (parent == null) {
+            parent = HandlerFactory.class.getClassLoader();
+        }
+
+        return this.classLoaders.getUnchecked(parent).defineClass(name, this.generator.createClass(method, name));
+    }
+
+}
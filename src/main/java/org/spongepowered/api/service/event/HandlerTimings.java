@@ -0,0 +1,146 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.plugin.PluginContainer;
+
+/**
+ * A snapshot of the time spent in a single registered event handler.
+ *
+ * @see EventManager#getTimings()
+ */
+public final class HandlerTimings {
+
+    private final PluginContainer plugin;
+    private final String handler;
+    private final Class<? extends Event> eventClass;
+    private final long invocations;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param plugin The plugin that registered the handler
+     * @param handler A description of the handler
+     * @param eventClass The event class the handler was registered for
+     * @param invocations The number of times the handler was called
+     * @param totalNanos The total time spent in the handler, in nanoseconds
+     * @param maxNanos The longest time spent in a single call, in nanoseconds
+     */
+    public HandlerTimings(PluginContainer plugin, String handler, Class<? extends Event> eventClass, long invocations, long totalNanos,
+            long maxNanos) {
+        this.plugin = checkNotNull(plugin, "plugin");
+        this.handler = checkNotNull(handler, "handler");
+        this.eventClass = checkNotNull(eventClass, "eventClass");
+        this.invocations = invocations;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Gets the plugin that registered the handler.
+     *
+     * @return The plugin
+     */
+    public PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    /**
+     * Gets a description of the handler, such as the name of the
+     * subscribed method.
+     *
+     * @return The handler description
+     */
+    public String getHandler() {
+        return this.handler;
+    }
+
+    /**
+     * Gets the event class the handler was registered for.
+     *
+     * @return The event class
+     */
+    public Class<? extends Event> getEventClass() {
+        return this.eventClass;
+    }
+
+    /**
+     * Gets the number of times the handler was called while timings were
+     * enabled.
+     *
+     * @return The number of invocations
+     */
+    public long getInvocations() {
+        return this.invocations;
+    }
+
+    /**
+     * Gets the total time spent in the handler, in nanoseconds.
+     *
+     * @return The total time
+     */
+    public long getTotalNanos() {
+        return this.totalNanos;
+    }
+
+    /**
+     * Gets the longest time spent in a single call of the handler, in
+     * nanoseconds.
+     *
+     * @return The maximum time
+     */
+    public long getMaxNanos() {
+        return this.maxNanos;
+    }
+
+    /**
+     * Gets the average time spent in a single call of the handler, in
+     * nanoseconds.
+     *
+     * @return The average time, or 0 if the handler was never called
+     */
+    public double getAverageNanos() {
+        return this.invocations == 0 ? 0 : (double) this.totalNanos / this.invocations;
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("plugin", this.plugin.getId())
+                .add("handler", this.handler)
+                .add("eventClass", this.eventClass.getName())
+                .add("invocations", this.invocations)
+                .add("totalNanos", this.totalNanos)
+                .add("maxNanos", this.maxNanos)
+                .toString();
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventHandler;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+/**
+ * An {@link EventHandler} registered with a {@link SimpleEventManager},
+ * along with the information needed to dispatch to it.
+ */
+final class RegisteredHandler implements Comparable<RegisteredHandler> {
+
+    final PluginContainer plugin;
+    final Object owner;
+    final String description;
+    final Class<? extends Event> eventClass;
+    final Order order;
+    final boolean ignoreCancelled;
+    final boolean async;
+    final EventHandler<Event> handler;
+
+    // Only allocated once timings are recorded
+    @Nullable private volatile Timings timings;
+
+    RegisteredHandler(PluginContainer plugin, Object owner, String description, Class<? extends Event> eventClass, Order order,
+            boolean ignoreCancelled, boolean async, EventHandler<Event> handler) {
+        this.plugin = plugin;
+        this.owner = owner;
+        this.description = description;
+        this.eventClass = eventClass;
+        this.order = order;
+        this.ignoreCancelled = ignoreCancelled;
+        this.async = async;
+        this.handler = handler;
+    }
+
+    /**
+     * Records a single call of this handler. This must only be called
+     * while timings are enabled, so that calls made while they are
+     * disabled do not touch the shared counters.
+     *
+     * @param nanos The time the call took, in nanoseconds
+     */
+    void record(long nanos) {
+        Timings timings = this.timings;
+        if (timings == null) {
+            synchronized (this) {
+                timings = this.timings;
+                if (timings == null) {
+                    timings = new Timings();
+                    this.timings = timings;
+                }
+            }
+        }
+        timings.record(nanos);
+    }
+
+    /**
+     * Resets the recorded timings of this handler.
+     */
+    void resetTimings() {
+        this.timings = null;
+    }
+
+    /**
+     * Creates a snapshot of the recorded timings of this handler.
+     *
+     * @return The snapshot
+     */
+    HandlerTimings getTimings() {
+        Timings timings = this.timings;
+        if (timings == null) {
+            return new HandlerTimings(this.plugin, this.description, this.eventClass, 0, 0, 0);
+        }
+        return new HandlerTimings(this.plugin, this.description, this.eventClass, timings.invocations.get(), timings.totalNanos.get(),
+                timings.maxNanos.get());
+    }
+
+    @Override
+    public int compareTo(RegisteredHandler o) {
+        return this.order.compareTo(o.order);
+    }
+
+    @Override
+    public String toString() {
+        return this.plugin.getId() + ":" + this.description + " (" + this.eventClass.getName() + ", " + this.order + ")";
+    }
+
+    /**
+     * The counters of a handler. Java 6 has no {@code LongAdder}, so these
+     * are plain atomics, updated from every thread that calls the handler.
+     */
+    private static final class Timings {
+
+        final AtomicLong invocations = new AtomicLong();
+        final AtomicLong totalNanos = new AtomicLong();
+        final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            this.invocations.incrementAndGet();
+            this.totalNanos.addAndGet(nanos);
+            long max;
+            do {
+                max = this.maxNanos.get();
+            } while (nanos > max && !this.maxNanos.compareAndSet(max, nanos));
+        }
+
+    }
+
+}
@@ -0,0 +1,327 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventHandler;
+import org.spongepowered.api.event.Filter;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.Subscribe;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.api.util.Tristate;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.inject.Inject;
+
+/**
+ * The default implementation of {@link EventManager}.
+ *
+ * <p>Every {@link Subscribe}d method is called through a generated class
+ * instead of through reflection. For each concrete event class posted, the
+ * handlers of the class and all of its supertypes are resolved once and
+ * stored as an array sorted by {@link Order}, so that {@link #post(Event)}
+ * does not need to allocate or walk the class hierarchy after the first
+ * event of a type.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class SimpleEventManager implements EventManager {
+
+    private static final Logger log = LoggerFactory.getLogger(SimpleEventManager.class);
+
+    private final PluginManager pluginManager;
+    private final HandlerFactory handlerFactory = new HandlerFactory("org.spongepowered.api.service.event.handler");
+    private final HandlerCache handlers = new HandlerCache();
+    private volatile boolean timingsEnabled;
+
+    /**
+     * Construct a simple {@link EventManager}.
+     *
+     * @param pluginManager The plugin manager to get the
+     *            {@link PluginContainer} for a given plugin
+     */
+    @Inject
+    public SimpleEventManager(PluginManager pluginManager) {
+        checkNotNull(pluginManager, "pluginManager");
+        this.pluginManager = pluginManager;
+    }
+
+    private PluginContainer getPlugin(Object plugin) {
+        checkNotNull(plugin, "plugin");
+        Optional<PluginContainer> containerOptional = this.pluginManager.fromInstance(plugin);
+        if (!containerOptional.isPresent()) {
+            throw new IllegalArgumentException(
+                    "The provided plugin object does not have an associated plugin container "
+                            + "(in other words, is 'plugin' actually your plugin object?)");
+        }
+        return containerOptional.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void register(Object plugin, Object obj) {
+        PluginContainer container = getPlugin(plugin);
+        checkNotNull(obj, "obj");
+
+        List<RegisteredHandler> newHandlers = new ArrayList<RegisteredHandler>();
+        for (Method method : obj.getClass().getMethods()) {
+            Subscribe subscribe = method.getAnnotation(Subscribe.class);
+            if (subscribe == null || method.isBridge()) {
+                continue;
+            }
+
+            if (HandlerFactory.isValidHandler(method)) {
+                Filter filter = method.getAnnotation(Filter.class);
+                if (filter != null && filter.cancelled() == Tristate.TRUE && subscribe.ignoreCancelled()) {
+                    log.warn("The method {} on {} only accepts cancelled events but ignores them, so it will never be called", method,
+                            obj.getClass().getName());
+                }
+
+                EventHandler<Event> handler = this.handlerFactory.create(obj, method);
+                newHandlers.add(new RegisteredHandler(container, obj, obj.getClass().getName() + "#" + method.getName(),
+                        (Class<? extends Event>) method.getParameterTypes()[0], subscribe.order(), subscribe.ignoreCancelled(),
+                        subscribe.async(), handler));
+            } else {
+                log.warn("The method {} on {} has @{} but has the wrong signature", method, obj.getClass().getName(),
+                        Subscribe.class.getSimpleName());
+            }
+        }
+
+        this.handlers.addAll(newHandlers);
+    }
+
+    @Override
+    public <T extends Event> void register(Object plugin, Class<T> eventClass, EventHandler<? super T> handler) {
+        register(plugin, eventClass, Order.DEFAULT, handler);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Event> void register(Object plugin, Class<T> eventClass, Order order, EventHandler<? super T> handler) {
+        checkNotNull(eventClass, "eventClass");
+        checkNotNull(order, "order");
+        checkNotNull(handler, "handler");
+        PluginContainer container = getPlugin(plugin);
+
+        this.handlers.addAll(Collections.singletonList(
+                new RegisteredHandler(container, handler, handler.toString(), eventClass, order, false, false, (EventHandler<Event>) handler)));
+    }
+
+    @Override
+    public void unregister(final Object obj) {
+        checkNotNull(obj, "obj");
+        this.handlers.removeAll(new Predicate<RegisteredHandler>() {
+            @Override
+            public boolean apply(RegisteredHandler input) {
+                return input.owner == obj;
+            }
+        });
+    }
+
+    @Override
+    public void unregisterPlugin(Object plugin) {
+        final PluginContainer container = getPlugin(plugin);
+        this.handlers.removeAll(new Predicate<RegisteredHandler>() {
+            @Override
+            public boolean apply(RegisteredHandler input) {
+                return input.plugin == container;
+            }
+        });
+    }
+
+    @Override
+    public boolean hasListeners(Class<? extends Event> eventClass) {
+        checkNotNull(eventClass, "eventClass");
+        return this.handlers.get(eventClass).length != 0;
+    }
+
+    private static void callHandler(RegisteredHandler handler, Event event, boolean timed) {
+        if (handler.ignoreCancelled && event instanceof Cancellable && ((Cancellable) event).isCancelled()) {
+            return;
+        }
+
+        long start = timed ? System.nanoTime() : 0;
+        try {
+            handler.handler.handle(event);
+        } catch (Throwable t) {
+            log.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler, t);
+        }
+        if (timed) {
+            handler.record(System.nanoTime() - start);
+        }
+    }
+
+    private static boolean isCancelled(Event event) {
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    @Override
+    public boolean post(Event event) {
+        checkNotNull(event, "event");
+
+        boolean timed = this.timingsEnabled;
+        for (RegisteredHandler handler : this.handlers.get(event.getClass())) {
+            callHandler(handler, event, timed);
+        }
+
+        return isCancelled(event);
+    }
+
+    @Override
+    public void postAll(List<? extends Event> events) {
+        checkNotNull(events, "events");
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Class<?> eventClass = events.get(0).getClass();
+        boolean sameClass = true;
+        for (Event event : events) {
+            if (event.getClass() != eventClass) {
+                sameClass = false;
+                break;
+            }
+        }
+
+        boolean timed = this.timingsEnabled;
+        if (sameClass) {
+            postAll(this.handlers.get(eventClass), events, timed);
+        } else {
+            Map<Class<?>, List<Event>> eventsByClass = new LinkedHashMap<Class<?>, List<Event>>();
+            for (Event event : events) {
+                List<Event> list = eventsByClass.get(event.getClass());
+                if (list == null) {
+                    list = new ArrayList<Event>();
+                    eventsByClass.put(event.getClass(), list);
+                }
+                list.add(event);
+            }
+
+            for (Map.Entry<Class<?>, List<Event>> entry : eventsByClass.entrySet()) {
+                postAll(this.handlers.get(entry.getKey()), entry.getValue(), timed);
+            }
+        }
+    }
+
+    private static void postAll(RegisteredHandler[] handlers, List<? extends Event> events, boolean timed) {
+        int size = events.size();
+        for (RegisteredHandler handler : handlers) {
+            for (int i = 0; i < size; i++) {
+                callHandler(handler, events.get(i), timed);
+            }
+        }
+    }
+
+    @Override
+    public ListenableFuture<Boolean> postAsync(final Event event, Executor executor) {
+        checkNotNull(event, "event");
+        checkNotNull(executor, "executor");
+
+        final RegisteredHandler[] handlers = this.handlers.get(event.getClass());
+        final boolean timed = this.timingsEnabled;
+        boolean hasAsync = false;
+        for (RegisteredHandler handler : handlers) {
+            if (handler.async) {
+                hasAsync = true;
+            } else {
+                callHandler(handler, event, timed);
+            }
+        }
+
+        if (!hasAsync) {
+            return Futures.immediateFuture(isCancelled(event));
+        }
+
+        final SettableFuture<Boolean> future = SettableFuture.create();
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (RegisteredHandler handler : handlers) {
+                            if (handler.async) {
+                                callHandler(handler, event, timed);
+                            }
+                        }
+                        future.set(isCancelled(event));
+                    } catch (Throwable t) {
+                        future.setException(t);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.setException(e);
+        }
+        return future;
+    }
+
+    @Override
+    public boolean isTimingsEnabled() {
+        return this.timingsEnabled;
+    }
+
+    @Override
+    public void setTimingsEnabled(boolean enabled) {
+        this.timingsEnabled = enabled;
+    }
+
+    @Override
+    public Collection<HandlerTimings> getTimings() {
+        ImmutableList.Builder<HandlerTimings> timings = ImmutableList.builder();
+        for (RegisteredHandler handler : this.handlers.getAll()) {
+            timings.add(handler.getTimings());
+        }
+        return timings.build();
+    }
+
+    @Override
+    public void resetTimings() {
+        for (RegisteredHandler handler : this.handlers.getAll()) {
+            handler.resetTimings();
+        }
+    }
+
+}
@@ -41,6 +41,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nullable;
 
@@ -55,6 +56,7 @@ public class MemorySubjectData implements OptionSubjectData {
     private final ConcurrentMap<Set<Context>, Map<String, String>> options = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, NodeTree> permissions = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, List<Map.Entry<String, String>>> parents = Maps.newConcurrentMap();
+    private final AtomicLong generation = new AtomicLong();
 
     /**
      * Creates a new subject data instance, using the provided service to request instances of permission subjects.
@@ -66,6 +68,27 @@ public MemorySubjectData(PermissionService service) {
         this.service = service;
     }
 
+    /**
+     * Gets the generation of the permissions and parents of this subject data. The generation changes after every
+     * change to either of them, so that a value derived from this data can be checked for staleness cheaply.
+     *
+     * <p>The generation should be read before the data it guards, as it is only changed once a change has been
+     * applied.</p>
+     *
+     * @return The current generation
+     * @see PermissionCache
+     */
+    public long getGeneration() {
+        return this.generation.get();
+    }
+
+    private boolean changed(boolean changed) {
+        if (changed) {
+            this.generation.incrementAndGet();
+        }
+        return changed;
+    }
+
     @Override
     public Map<Set<Context>, Map<String, Boolean>> getAllPermissions() {
         ImmutableMap.Builder<Set<Context>, Map<String, Boolean>> ret = ImmutableMap.builder();
@@ -102,30 +125,63 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
                 return false;
             }
 
-            if (oldTree == null && value != Tristate.UNDEFINED) {
-                if (this.permissions.putIfAbsent(contexts, NodeTree.of(ImmutableMap.of(permission, value.asBoolean()))) == null) {
-                    break;
+            if (oldTree == null) {
+                if (value == Tristate.UNDEFINED) {
+                    return false;
                 }
-            } else {
-                if (oldTree == null || this.permissions.replace(contexts, oldTree, oldTree.withValue(permission, value))) {
-                    break;
+                if (this.permissions.putIfAbsent(contexts, NodeTree.of(ImmutableMap.of(permission, value.asBoolean()))) == null) {
+                    return changed(true);
                 }
+            } else if (this.permissions.replace(contexts, oldTree, oldTree.withValue(permission, value))) {
+                return changed(true);
             }
         }
-        return true;
+    }
 
+    /**
+     * Sets many permissions at once.
+     *
+     * <p>All changes are applied to a single copy of the permission tree for the given contexts, which is then
+     * published with a single update, so this is much cheaper than calling
+     * {@link #setPermission(Set, String, Tristate)} for each permission.</p>
+     *
+     * @param contexts The contexts to set the permissions in
+     * @param values The values to set, with UNDEFINED to remove
+     * @return Whether any permission was changed
+     */
+    public boolean setPermissions(Set<Context> contexts, Map<String, Tristate> values) {
+        contexts = ImmutableSet.copyOf(contexts);
+        while (true) {
+            NodeTree oldTree = this.permissions.get(contexts);
+            NodeTree.Builder builder = (oldTree == null ? NodeTree.of(Collections.<String, Boolean>emptyMap()) : oldTree).toBuilder();
+            boolean changed = false;
+            for (Map.Entry<String, Tristate> ent : values.entrySet()) {
+                // Compare against the changes made so far, as a sequence of
+                // setPermission calls would
+                if (builder.get(ent.getKey()) != ent.getValue()) {
+                    builder.set(ent.getKey(), ent.getValue());
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                return false;
+            }
+            if (updateCollection(this.permissions, contexts, oldTree, builder.build())) {
+                return changed(true);
+            }
+        }
     }
 
     @Override
     public boolean clearPermissions() {
         boolean wasEmpty = this.permissions.isEmpty();
         this.permissions.clear();
-        return !wasEmpty;
+        return changed(!wasEmpty);
     }
 
     @Override
     public boolean clearPermissions(Set<Context> context) {
-        return this.permissions.remove(context) != null;
+        return changed(this.permissions.remove(context) != null);
     }
 
     @Override
@@ -168,7 +224,7 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
             }
 
             if (updateCollection(this.parents, contexts, oldParents, newParents)) {
-                return true;
+                return changed(true);
             }
         }
     }
@@ -202,7 +258,7 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
             newParents.remove(removeEnt);
 
             if (updateCollection(this.parents, contexts, oldParents, Collections.unmodifiableList(newParents))) {
-                return true;
+                return changed(true);
             }
         }
 
@@ -212,12 +268,12 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
     public boolean clearParents() {
         boolean wasEmpty = this.parents.isEmpty();
         this.parents.clear();
-        return !wasEmpty;
+        return changed(!wasEmpty);
     }
 
     @Override
     public boolean clearParents(Set<Context> contexts) {
-        return this.parents.remove(contexts) != null;
+        return changed(this.parents.remove(contexts) != null);
     }
 
     @Override
@@ -27,26 +27,28 @@
 import com.google.common.collect.ImmutableMap;
 import org.spongepowered.api.util.Tristate;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
 
 /**
  * An immutable tree structure for determining node data. Any changes will create new copies of the necessary tree objects.
  * Keys are case-insensitive.
  * Segments of nodes are split by the '.' character
+ *
+ * <p>Looking up a node walks the node string in place: segments are hashed and compared case-insensitively as they are
+ * read, so {@link #get(String)} does not allocate. A {@link PermissionNode} is resolved by comparing its interned
+ * segments by identity instead.</p>
+ *
+ * <p>The children of each node are kept in a persistent hash array mapped trie, which a modified copy of the tree
+ * shares with the original except along the path to the change. Changing one of hundreds of siblings therefore copies
+ * a few small arrays instead of all of the siblings.</p>
  */
 public class NodeTree {
 
-    private static final Pattern SPLIT_REGEX = Pattern.compile("\\.");
     private final Node rootNode;
 
 
-    private NodeTree(Tristate value) {
-        this.rootNode = new Node(new HashMap<String, Node>());
-        this.rootNode.value = value;
-    }
-
     private NodeTree(Node rootNode) {
         this.rootNode = rootNode;
     }
@@ -69,22 +71,12 @@ public static NodeTree of(Map<String, Boolean> values) {
      * @return The newly created node tree
      */
     public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
-        NodeTree newTree = new NodeTree(defaultValue);
+        Builder builder = new Builder(new Node(null));
+        builder.root.value = defaultValue;
         for (Map.Entry<String, Boolean> value : values.entrySet()) {
-            String[] parts = SPLIT_REGEX.split(value.getKey().toLowerCase());
-            Node currentNode = newTree.rootNode;
-            for (String part : parts) {
-                if (currentNode.children.containsKey(part)) {
-                    currentNode = currentNode.children.get(part);
-                } else {
-                    Node newNode = new Node(new HashMap<String, Node>());
-                    currentNode.children.put(part, newNode);
-                    currentNode = newNode;
-                }
-            }
-            currentNode.value = Tristate.fromBoolean(value.getValue());
+            builder.set(value.getKey(), Tristate.fromBoolean(value.getValue()));
         }
-        return newTree;
+        return builder.build();
     }
 
     /**
@@ -94,22 +86,49 @@ public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
      * @return The tristate value for the given node
      */
     public Tristate get(String node) {
-        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
-        Node currentNode = this.rootNode;
+        return get(this.rootNode, node);
+    }
+
+    private static Tristate get(Node rootNode, String node) {
+        final int end = trimmedLength(node);
+        Node currentNode = rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        for (int start = 0; start <= end; ) {
+            int segmentEnd = segmentEnd(node, start, end);
+            currentNode = currentNode.get(node, start, segmentEnd, hash(node, start, segmentEnd));
+            if (currentNode == null) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
+            start = segmentEnd + 1;
         }
         return lastUndefinedVal;
 
     }
 
+    /**
+     * Returns the value assigned to a specific node, or the nearest parent value in the tree if the node itself is undefined.
+     *
+     * @param node The compiled node to get the value at
+     * @return The tristate value for the given node
+     */
+    public Tristate get(PermissionNode node) {
+        Node currentNode = this.rootNode;
+        Tristate lastUndefinedVal = Tristate.UNDEFINED;
+        for (int i = 0; i < node.getSegmentCount(); i++) {
+            currentNode = currentNode.get(node.getSegment(i), node.getSegmentHash(i));
+            if (currentNode == null) {
+                break;
+            }
+            if (currentNode.value != Tristate.UNDEFINED) {
+                lastUndefinedVal = currentNode.value;
+            }
+        }
+        return lastUndefinedVal;
+    }
+
     /**
      * Convert this node tree into a map of the defined nodes in this tree.
      *
@@ -117,9 +136,7 @@ public Tristate get(String node) {
      */
     public Map<String, Boolean> asMap() {
         ImmutableMap.Builder<String, Boolean> ret = ImmutableMap.builder();
-        for (Map.Entry<String, Node> ent : this.rootNode.children.entrySet()) {
-            populateMap(ret, ent.getKey(), ent.getValue());
-        }
+        populateChildren(ret, null, this.rootNode.children);
         return ret.build();
     }
 
@@ -127,57 +144,403 @@ private void populateMap(ImmutableMap.Builder<String, Boolean> values, String pr
         if (currentNode.value != Tristate.UNDEFINED) {
             values.put(prefix, currentNode.value.asBoolean());
         }
-        for (Map.Entry<String, Node> ent : currentNode.children.entrySet()) {
-            populateMap(values, prefix + '.' + ent.getKey(), ent.getValue());
+        populateChildren(values, prefix, currentNode.children);
+    }
+
+    private void populateChildren(ImmutableMap.Builder<String, Boolean> values, @Nullable String prefix, @Nullable Trie children) {
+        if (children == null) {
+            return;
+        }
+        for (Object slot : children.slots) {
+            if (slot instanceof Entry) {
+                Entry entry = (Entry) slot;
+                populateMap(values, prefix == null ? entry.key : prefix + '.' + entry.key, entry.child);
+            } else {
+                populateChildren(values, prefix, (Trie) slot);
+            }
         }
     }
 
     /**
      * Return a new NodeTree instance with a single changed value.
      *
+     * <p>The values of the parent nodes of the changed node are kept.</p>
+     *
      * @param node The node path to change the value of
      * @param value The value to change, or UNDEFINED to remove
      * @return The new, modified node tree
      */
     public NodeTree withValue(String node, Tristate value) {
-        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
-        Node newRoot = new Node(new HashMap<String, Node>(this.rootNode.children));
-        Node newPtr = newRoot;
-        Node currentPtr = this.rootNode;
-
-        newPtr.value = currentPtr == null ? Tristate.UNDEFINED : currentPtr.value;
-        for (String part : parts) {
-            Node oldChild = currentPtr == null ? null : currentPtr.children.get(part);
-            Node newChild = new Node(oldChild != null ? new HashMap<String, Node>(oldChild.children) : new HashMap<String, Node>());
-            newPtr.children.put(part, newChild);
-            currentPtr = oldChild;
-            newPtr = newChild;
-        }
-        newPtr.value = value;
-        return new NodeTree(newRoot);
+        return toBuilder().set(node, value).build();
     }
 
     /**
      * Return a modified new node tree with the specified values set.
      *
+     * <p>All values are applied to a single copy of the tree, so every node
+     * is copied at most once however many of its descendants change.</p>
+     *
      * @param values The values to set
      * @return The new node tree
      */
     public NodeTree withAll(Map<String, Tristate> values) {
-        NodeTree ret = this;
-        for (Map.Entry<String, Tristate> ent : values.entrySet()) {
-            ret = ret.withValue(ent.getKey(), ent.getValue());
+        return toBuilder().setAll(values).build();
+    }
+
+    /**
+     * Creates a builder for a modified copy of this tree.
+     *
+     * @return The new builder
+     */
+    public Builder toBuilder() {
+        return new Builder(this.rootNode);
+    }
+
+    /**
+     * Gets the length of a node without its trailing separators, which
+     * are ignored.
+     */
+    static int trimmedLength(String node) {
+        int end = node.length();
+        while (end > 0 && node.charAt(end - 1) == '.') {
+            end--;
+        }
+        return end;
+    }
+
+    static int segmentEnd(String node, int start, int end) {
+        int separator = node.indexOf('.', start);
+        return separator < 0 || separator > end ? end : separator;
+    }
+
+    static char lowerCase(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    static String lowerCase(String node, int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = lowerCase(node.charAt(start + i));
         }
-        return ret;
+        return new String(chars);
     }
 
-    private static class Node {
+    static int hash(String node, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + lowerCase(node.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A builder for applying many changes to a {@link NodeTree} at once.
+     *
+     * <p>Nodes are copied the first time a change touches them and modified
+     * in place afterwards, so a batch of changes costs a single copy of the
+     * affected part of the tree. The tree the builder was created from is
+     * never modified.</p>
+     */
+    public static final class Builder {
+
+        private Node root;
+        private Object edit = new Object();
+
+        Builder(Node root) {
+            this.root = root;
+        }
 
-        private final Map<String, Node> children;
+        /**
+         * Returns the value assigned to a node in the tree being built, or
+         * the nearest parent value if the node itself is undefined.
+         *
+         * @param node The path to get the node value at
+         * @return The tristate value for the given node
+         * @see NodeTree#get(String)
+         */
+        public Tristate get(String node) {
+            return NodeTree.get(this.root, node);
+        }
+
+        /**
+         * Sets the value of a node.
+         *
+         * @param node The node path to change the value of
+         * @param value The value to change, or UNDEFINED to remove
+         * @return This builder, for chaining
+         */
+        public Builder set(String node, Tristate value) {
+            final int end = trimmedLength(node);
+            this.root = editable(this.root);
+            Node currentNode = this.root;
+            for (int start = 0; start <= end; ) {
+                int segmentEnd = segmentEnd(node, start, end);
+                int hash = hash(node, start, segmentEnd);
+                Node child = currentNode.get(node, start, segmentEnd, hash);
+                if (child == null) {
+                    child = new Node(this.edit);
+                    currentNode.put(PermissionNode.intern(lowerCase(node, start, segmentEnd)), hash, child);
+                } else if (child.edit != this.edit) {
+                    child = child.copy(this.edit);
+                    currentNode.replace(node, start, segmentEnd, hash, child);
+                }
+                currentNode = child;
+                start = segmentEnd + 1;
+            }
+            currentNode.value = value;
+            return this;
+        }
+
+        /**
+         * Sets the values of many nodes.
+         *
+         * @param values The values to set
+         * @return This builder, for chaining
+         */
+        public Builder setAll(Map<String, Tristate> values) {
+            for (Map.Entry<String, Tristate> ent : values.entrySet()) {
+                set(ent.getKey(), ent.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * Creates a tree with the changes made so far. The builder can be
+         * used further without affecting the returned tree.
+         *
+         * @return The new node tree
+         */
+        public NodeTree build() {
+            // Nodes of the returned tree may no longer be modified in place
+            this.edit = new Object();
+            return new NodeTree(this.root);
+        }
+
+        private Node editable(Node node) {
+            return node.edit == this.edit ? node : node.copy(this.edit);
+        }
+
+    }
+
+    /**
+     * A node of the tree. Its children are kept in a {@link Trie} keyed by
+     * lower case segment, which copying a node shares with the copy. Nodes
+     * are only modified by the {@link Builder} whose edit token they carry,
+     * while a tree is being built.
+     */
+    private static final class Node {
+
+        @Nullable private Trie children;
         private Tristate value = Tristate.UNDEFINED;
+        @Nullable private final Object edit;
+
+        Node(@Nullable Object edit) {
+            this.edit = edit;
+        }
+
+        Node copy(Object edit) {
+            Node copy = new Node(edit);
+            copy.children = this.children;
+            copy.value = this.value;
+            return copy;
+        }
+
+        @Nullable
+        Node get(String node, int start, int end, int hash) {
+            Entry entry = Trie.find(this.children, node, start, end, hash);
+            return entry == null ? null : entry.child;
+        }
+
+        @Nullable
+        Node get(String segment, int hash) {
+            Entry entry = Trie.find(this.children, segment, hash);
+            return entry == null ? null : entry.child;
+        }
+
+        /**
+         * Replaces the child for an existing segment.
+         */
+        void replace(String node, int start, int end, int hash, Node child) {
+            Entry entry = Trie.find(this.children, node, start, end, hash);
+            put(entry.key, hash, child);
+        }
+
+        /**
+         * Sets the child for an interned lower case segment.
+         */
+        void put(String key, int hash, Node child) {
+            this.children = Trie.put(this.children, new Entry(key, hash, child), 0, this.edit);
+        }
+    }
+
+    /**
+     * A child of a node, along with its segment. The segment is interned
+     * through {@link PermissionNode#intern(String)}, so that it can be
+     * compared by identity.
+     */
+    private static final class Entry {
+
+        final String key;
+        final int hash;
+        final Node child;
+
+        Entry(String key, int hash, Node child) {
+            this.key = key;
+            this.hash = hash;
+            this.child = child;
+        }
+
+        boolean matches(String node, int start, int end) {
+            if (this.key.length() != end - start) {
+                return false;
+            }
+            for (int i = 0; i < this.key.length(); i++) {
+                if (this.key.charAt(i) != lowerCase(node.charAt(start + i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A persistent hash array mapped trie of {@link Entry entries}.
+     *
+     * <p>Each level consumes {@link #BITS} bits of the segment hash. A slot
+     * holds either an entry or the trie of the next level, and only the
+     * slots in use are allocated, as marked by the bitmap. Once the hash is
+     * used up, colliding entries are kept in a plain list. Updating a trie
+     * copies the levels along the path to the entry only, unless they carry
+     * the edit token of the update, in which case they are modified in
+     * place.</p>
+     */
+    private static final class Trie {
+
+        private static final int BITS = 5;
+        private static final int MASK = (1 << BITS) - 1;
+        private static final Object[] NO_SLOTS = new Object[0];
+
+        @Nullable private final Object edit;
+        private int bitmap;
+        private Object[] slots;
+
+        Trie(@Nullable Object edit, int bitmap, Object[] slots) {
+            this.edit = edit;
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        @Nullable
+        static Entry find(@Nullable Trie trie, String node, int start, int end, int hash) {
+            for (int shift = 0; trie != null; shift += BITS) {
+                if (shift >= Integer.SIZE) {
+                    for (Object slot : trie.slots) {
+                        Entry entry = (Entry) slot;
+                        if (entry.hash == hash && entry.matches(node, start, end)) {
+                            return entry;
+                        }
+                    }
+                    return null;
+                }
+                Object slot = trie.getSlot(hash, shift);
+                if (slot instanceof Entry) {
+                    Entry entry = (Entry) slot;
+                    return entry.hash == hash && entry.matches(node, start, end) ? entry : null;
+                }
+                trie = (Trie) slot;
+            }
+            return null;
+        }
+
+        @Nullable
+        static Entry find(@Nullable Trie trie, String segment, int hash) {
+            for (int shift = 0; trie != null; shift += BITS) {
+                if (shift >= Integer.SIZE) {
+                    for (Object slot : trie.slots) {
+                        if (((Entry) slot).key == segment) {
+                            return (Entry) slot;
+                        }
+                    }
+                    return null;
+                }
+                Object slot = trie.getSlot(hash, shift);
+                if (slot instanceof Entry) {
+                    return ((Entry) slot).key == segment ? (Entry) slot : null;
+                }
+                trie = (Trie) slot;
+            }
+            return null;
+        }
+
+        @Nullable
+        private Object getSlot(int hash, int shift) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((this.bitmap & bit) == 0) {
+                return null;
+            }
+            return this.slots[Integer.bitCount(this.bitmap & (bit - 1))];
+        }
 
-        private Node(Map<String, Node> children) {
-            this.children = children;
+        /**
+         * Adds an entry, replacing the entry with the same segment if there
+         * is one.
+         *
+         * @return The updated trie
+         */
+        static Trie put(@Nullable Trie trie, Entry entry, int shift, @Nullable Object edit) {
+            if (trie == null) {
+                trie = new Trie(edit, 0, NO_SLOTS);
+            }
+            if (shift >= Integer.SIZE) {
+                for (int i = 0; i < trie.slots.length; i++) {
+                    if (((Entry) trie.slots[i]).key == entry.key) {
+                        return trie.withSlot(i, entry, edit);
+                    }
+                }
+                return trie.withInsertedSlot(trie.slots.length, 0, entry, edit);
+            }
+            int bit = 1 << ((entry.hash >>> shift) & MASK);
+            int index = Integer.bitCount(trie.bitmap & (bit - 1));
+            if ((trie.bitmap & bit) == 0) {
+                return trie.withInsertedSlot(index, bit, entry, edit);
+            }
+            Object slot = trie.slots[index];
+            if (slot instanceof Trie) {
+                Trie updated = put((Trie) slot, entry, shift + BITS, edit);
+                return updated == slot ? trie : trie.withSlot(index, updated, edit);
+            }
+            Entry existing = (Entry) slot;
+            if (existing.key == entry.key) {
+                return trie.withSlot(index, entry, edit);
+            }
+            Trie split = put(put(null, existing, shift + BITS, edit), entry, shift + BITS, edit);
+            return trie.withSlot(index, split, edit);
+        }
+
+        private Trie withSlot(int index, Object value, @Nullable Object edit) {
+            if (edit != null && this.edit == edit) {
+                this.slots[index] = value;
+                return this;
+            }
+            Object[] newSlots = this.slots.clone();
+            newSlots[index] = value;
+            return new Trie(edit, this.bitmap, newSlots);
+        }
+
+        private Trie withInsertedSlot(int index, int bit, Object value, @Nullable Object edit) {
+            Object[] newSlots = new Object[this.slots.length + 1];
+            System.arraycopy(this.slots, 0, newSlots, 0, index);
+            newSlots[index] = value;
+            System.arraycopy(this.slots, index, newSlots, index + 1, this.slots.length - index);
+            if (edit != null && this.edit == edit) {
+                this.bitmap |= bit;
+                this.slots = newSlots;
+                return this;
+            }
+            return new Trie(edit, this.bitmap | bit, newSlots);
         }
     }
 }
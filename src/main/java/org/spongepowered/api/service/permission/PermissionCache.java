@@ -0,0 +1,246 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.service.permission.context.Context;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A bounded cache of resolved permission values for a single subject, for
+ * use by {@link Subject} implementations.
+ *
+ * <p>Resolving a permission value means merging the subject's own and
+ * transient data with that of all of its parents and the default data.
+ * The cache remembers the resolved value per set of active contexts and
+ * permission, along with the {@link MemorySubjectData#getGeneration()
+ * generation} of every subject data the resolution read from. A cached
+ * value is only handed out while none of these generations has changed,
+ * so a change anywhere in the subject's inheritance chain invalidates
+ * exactly the values that depend on it, while changes to unrelated
+ * subjects do not.</p>
+ *
+ * <p>A typical lookup looks like this:</p>
+ *
+ * <pre>
+ * Tristate value = cache.get(contexts, permission);
+ * if (value == null) {
+ *     PermissionCache.Resolution resolution = cache.newResolution();
+ *     // Call resolution.dependOn(data) before reading each subject data
+ *     value = resolve(contexts, permission, resolution);
+ *     cache.put(contexts, permission, value, resolution);
+ * }
+ * </pre>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class PermissionCache {
+
+    private final Cache<Key, Entry> entries;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumSize The maximum number of values to keep, beyond
+     *            which the least recently used values are evicted
+     */
+    public PermissionCache(int maximumSize) {
+        checkArgument(maximumSize > 0, "maximumSize must be positive");
+        this.entries = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Creates an empty resolution to record the dependencies of a value in.
+     *
+     * @return The new resolution
+     */
+    public Resolution newResolution() {
+        return new Resolution();
+    }
+
+    /**
+     * Gets the cached value for a permission, if it is still valid.
+     *
+     * @param contexts The active contexts
+     * @param permission The permission
+     * @return The cached value, or null if there is none or it is stale
+     */
+    @Nullable
+    public Tristate get(Set<Context> contexts, String permission) {
+        return getValid(new Key(contexts, permission));
+    }
+
+    /**
+     * Gets the cached value for a compiled permission node, if it is still
+     * valid.
+     *
+     * @param contexts The active contexts
+     * @param permission The compiled permission node
+     * @return The cached value, or null if there is none or it is stale
+     */
+    @Nullable
+    public Tristate get(Set<Context> contexts, PermissionNode permission) {
+        return getValid(new Key(contexts, permission));
+    }
+
+    @Nullable
+    private Tristate getValid(Key key) {
+        Entry entry = this.entries.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.isValid()) {
+            this.entries.asMap().remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Caches the resolved value for a permission.
+     *
+     * @param contexts The active contexts
+     * @param permission The permission
+     * @param value The resolved value
+     * @param resolution The resolution the value was derived from
+     */
+    public void put(Set<Context> contexts, String permission, Tristate value, Resolution resolution) {
+        this.entries.put(new Key(ImmutableSet.copyOf(contexts), permission), new Entry(value, resolution));
+    }
+
+    /**
+     * Caches the resolved value for a compiled permission node.
+     *
+     * @param contexts The active contexts
+     * @param permission The compiled permission node
+     * @param value The resolved value
+     * @param resolution The resolution the value was derived from
+     */
+    public void put(Set<Context> contexts, PermissionNode permission, Tristate value, Resolution resolution) {
+        this.entries.put(new Key(ImmutableSet.copyOf(contexts), permission), new Entry(value, resolution));
+    }
+
+    /**
+     * Removes every cached value, for changes the generations of subject
+     * data do not cover, such as a change to the context calculators.
+     */
+    public void invalidateAll() {
+        this.entries.invalidateAll();
+    }
+
+    /**
+     * The subject data a resolved value was derived from, along with their
+     * generations at the time they were read.
+     */
+    public static final class Resolution {
+
+        private MemorySubjectData[] dependencies = new MemorySubjectData[4];
+        private long[] generations = new long[4];
+        private int size;
+
+        Resolution() {
+        }
+
+        /**
+         * Records that the value depends on the given subject data. This
+         * must be called before the data is read.
+         *
+         * @param data The subject data
+         */
+        public void dependOn(MemorySubjectData data) {
+            checkNotNull(data, "data");
+            if (this.size == this.dependencies.length) {
+                this.dependencies = Arrays.copyOf(this.dependencies, this.size * 2);
+                this.generations = Arrays.copyOf(this.generations, this.size * 2);
+            }
+            this.generations[this.size] = data.getGeneration();
+            this.dependencies[this.size++] = data;
+        }
+
+    }
+
+    private static final class Entry {
+
+        private final Tristate value;
+        private final MemorySubjectData[] dependencies;
+        private final long[] generations;
+
+        Entry(Tristate value, Resolution resolution) {
+            this.value = checkNotNull(value, "value");
+            this.dependencies = Arrays.copyOf(resolution.dependencies, resolution.size);
+            this.generations = Arrays.copyOf(resolution.generations, resolution.size);
+        }
+
+        boolean isValid() {
+            for (int i = 0; i < this.dependencies.length; i++) {
+                if (this.dependencies[i].getGeneration() != this.generations[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+    private static final class Key {
+
+        private final Set<Context> contexts;
+        private final Object permission;
+
+        Key(Set<Context> contexts, Object permission) {
+            this.contexts = checkNotNull(contexts, "contexts");
+            this.permission = checkNotNull(permission, "permission");
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return this.permission.equals(other.permission) && this.contexts.equals(other.contexts);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.contexts.hashCode() + this.permission.hashCode();
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * A permission string that has been split into its segments ahead of
+ * time.
+ *
+ * <p>Segments are interned, so checking a compiled node against a
+ * {@link NodeTree} compares segments by identity instead of parsing and
+ * comparing strings. The interner holds its segments weakly, so segments
+ * no longer used by any node or tree can be collected. Plugins that check
+ * the same permission often should compile it once, through
+ * {@link PermissionService#compile(String)}, and keep the handle.</p>
+ *
+ * <p>Like permission strings, nodes are case-insensitive.</p>
+ */
+public final class PermissionNode {
+
+    private static final Interner<String> segmentInterner = Interners.newWeakInterner();
+
+    private final String permission;
+    private final String[] segments;
+    private final int[] hashes;
+
+    private PermissionNode(String permission, String[] segments, int[] hashes) {
+        this.permission = permission;
+        this.segments = segments;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Compiles a permission string.
+     *
+     * @param permission The permission string
+     * @return The compiled node
+     */
+    public static PermissionNode of(String permission) {
+        checkNotNull(permission, "permission");
+        final int end = NodeTree.trimmedLength(permission);
+        int count = 1;
+        for (int i = 0; i < end; i++) {
+            if (permission.charAt(i) == '.') {
+                count++;
+            }
+        }
+        String[] segments = new String[count];
+        int[] hashes = new int[count];
+        int segment = 0;
+        for (int start = 0; start <= end; ) {
+            int segmentEnd = NodeTree.segmentEnd(permission, start, end);
+            segments[segment] = intern(NodeTree.lowerCase(permission, start, segmentEnd));
+            hashes[segment] = NodeTree.hash(permission, start, segmentEnd);
+            segment++;
+            start = segmentEnd + 1;
+        }
+        return new PermissionNode(NodeTree.lowerCase(permission, 0, permission.length()), segments, hashes);
+    }
+
+    /**
+     * Gets the canonical instance of a lower case segment.
+     *
+     * @param segment The segment
+     * @return The interned segment
+     */
+    static String intern(String segment) {
+        return segmentInterner.intern(segment);
+    }
+
+    /**
+     * Gets the permission string of this node, in lower case.
+     *
+     * @return The permission string
+     */
+    public String getPermission() {
+        return this.permission;
+    }
+
+    int getSegmentCount() {
+        return this.segments.length;
+    }
+
+    String getSegment(int index) {
+        return this.segments[index];
+    }
+
+    int getSegmentHash(int index) {
+        return this.hashes[index];
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof PermissionNode && this.permission.equals(((PermissionNode) obj).permission);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.permission.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.permission;
+    }
+
+}
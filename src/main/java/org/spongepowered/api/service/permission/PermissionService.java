@@ -56,6 +56,18 @@ public interface PermissionService {
      */
     SubjectCollection getGroupSubjects();
 
+    /**
+     * Compiles a permission string into a handle that can be checked
+     * repeatedly without parsing the string again.
+     *
+     * <p>Implementations that have no use for their own handle type can
+     * return {@link PermissionNode#of(String)}.</p>
+     *
+     * @param permission The permission string
+     * @return The compiled permission node
+     */
+    PermissionNode compile(String permission);
+
     /**
      * This is a transient data object that contains data that will be applied
      * by default to all subjects.
@@ -126,6 +126,27 @@ public interface Subject {
      */
     boolean hasPermission(String permission);
 
+    /**
+     * Test whether the subject is permitted to perform an action given as the
+     * given compiled permission node.
+     *
+     * @param contexts The set of contexts that represents the subject's current environment
+     * @param permission The compiled permission node
+     * @return True if permission is granted
+     * @see PermissionService#compile(String)
+     */
+    boolean hasPermission(Set<Context> contexts, PermissionNode permission);
+
+    /**
+     * Test whether the subject is permitted to perform an action given as the
+     * given compiled permission node.
+     *
+     * @param permission The compiled permission node
+     * @return True if permission is granted
+     * @see PermissionService#compile(String)
+     */
+    boolean hasPermission(PermissionNode permission);
+
     /**
      * Returns the calculated value set for a given permission.
      *
@@ -135,6 +156,16 @@ public interface Subject {
      */
     Tristate getPermissionValue(Set<Context> contexts, String permission);
 
+    /**
+     * Returns the calculated value set for a given compiled permission node.
+     *
+     * @param contexts The contexts to check for permissions in
+     * @param permission The compiled permission node to check
+     * @return The tristate true/false/unset value for permissions
+     * @see PermissionService#compile(String)
+     */
+    Tristate getPermissionValue(Set<Context> contexts, PermissionNode permission);
+
     /**
      * Check if this subject is a child of the given parent in the subject's
      * current context, traversing inheritance.
@@ -0,0 +1,274 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.scheduler;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Longs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * The common part of the reference schedulers.
+ *
+ * <p>Tasks are kept in a {@link TimingWheel} that is only ever touched by
+ * the thread calling {@link #advance()}. Tasks scheduled or cancelled
+ * from any other thread are handed over through a queue that is drained
+ * at the start of every tick, so neither operation has to wait for the
+ * scheduling thread. Queries are served by a {@link TaskRegistry}.</p>
+ */
+abstract class AbstractScheduler implements SchedulerQuery {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractScheduler.class);
+    private static final Ordering<ScheduledTask> BY_TOTAL_RUN_TIME = new Ordering<ScheduledTask>() {
+
+        @Override
+        public int compare(ScheduledTask left, ScheduledTask right) {
+            return Longs.compare(left.getTotalRunNanos(), right.getTotalRunNanos());
+        }
+
+    };
+
+    private final PluginManager pluginManager;
+    private final String typeTag;
+    private final TimingWheel<ScheduledTask> wheel = new TimingWheel<ScheduledTask>();
+    private final Queue<ScheduledTask> pending = new ConcurrentLinkedQueue<ScheduledTask>();
+    private final List<ScheduledTask> expired = Lists.newArrayList();
+    private final TaskRegistry tasks = new TaskRegistry();
+    private final AtomicLong serial = new AtomicLong();
+    private volatile long currentTick;
+
+    AbstractScheduler(PluginManager pluginManager, String typeTag) {
+        checkNotNull(pluginManager, "pluginManager");
+        this.pluginManager = pluginManager;
+        this.typeTag = typeTag;
+    }
+
+    /**
+     * Gets whether the tasks of this scheduler are synchronous.
+     *
+     * @return Whether the tasks are synchronous
+     */
+    abstract boolean isSynchronous();
+
+    /**
+     * Hands over a task whose deadline has passed to be run.
+     *
+     * <p>This is called on the thread that advances the scheduler. The task
+     * must be {@link #claim(ScheduledTask) claimed} before it is run.</p>
+     *
+     * @param task The task that is due
+     */
+    abstract void dispatch(ScheduledTask task);
+
+    /**
+     * Schedules a new task.
+     *
+     * @param plugin The plugin or plugin container scheduling the task
+     * @param runnable The runnable of the task
+     * @param delay The delay as requested by the plugin
+     * @param interval The interval as requested by the plugin, or zero
+     * @param delayTicks The delay in ticks of the wheel
+     * @param intervalTicks The interval in ticks of the wheel
+     * @return The task, or {@link Optional#absent()} if the plugin is unknown
+     */
+    final Optional<Task> schedule(Object plugin, Runnable runnable, long delay, long interval, long delayTicks, long intervalTicks) {
+        checkNotNull(runnable, "runnable");
+        Optional<PluginContainer> owner = getPlugin(plugin);
+        if (!owner.isPresent()) {
+            return Optional.absent();
+        }
+        String pluginId = owner.get().getId();
+        String name = (Strings.isNullOrEmpty(pluginId) ? "Unknown" : pluginId) + "-" + this.typeTag + "-" + this.serial.incrementAndGet();
+        ScheduledTask task = new ScheduledTask(this, owner.get(), runnable, name, delay, interval, intervalTicks);
+        this.tasks.add(task);
+        submit(task, this.currentTick + delayTicks);
+        return Optional.<Task>of(task);
+    }
+
+    /**
+     * Hands a task over to the scheduling thread, to be put into the wheel
+     * at the given tick.
+     *
+     * @param task The task
+     * @param deadline The tick to run the task at
+     */
+    final void submit(ScheduledTask task, long deadline) {
+        task.nextDeadline = deadline;
+        this.pending.add(task);
+    }
+
+    final void rename(ScheduledTask task, String name) {
+        this.tasks.rename(task, name);
+    }
+
+    final void cancel(ScheduledTask task) {
+        this.tasks.remove(task);
+        this.pending.add(task);
+    }
+
+    /**
+     * Gets the last tick the scheduler has advanced to.
+     *
+     * @return The current tick
+     */
+    final long getCurrentTick() {
+        return this.currentTick;
+    }
+
+    /**
+     * Advances the scheduler by one tick, dispatching every task that is
+     * due.
+     *
+     * <p>This must always be called from the same thread.</p>
+     */
+    final void advance() {
+        ScheduledTask task;
+        while ((task = this.pending.poll()) != null) {
+            if (task.isCancelled()) {
+                this.wheel.cancel(task);
+            } else {
+                this.wheel.schedule(task, task.nextDeadline);
+            }
+        }
+
+        this.wheel.advance(this.expired);
+        final long tick = this.wheel.getCurrentTick();
+        this.currentTick = tick;
+
+        try {
+            for (int i = 0; i < this.expired.size(); i++) {
+                task = this.expired.get(i);
+                if (task.isCancelled()) {
+                    continue;
+                }
+                dispatch(task);
+                if (task.isRepeating() && !task.isCancelled()) {
+                    this.wheel.schedule(task, Math.max(task.getDeadline() + task.getIntervalTicks(), tick + 1));
+                }
+            }
+        } finally {
+            this.expired.clear();
+        }
+    }
+
+    /**
+     * Claims a due task right before it is run.
+     *
+     * @param task The task
+     * @return Whether the task should be run, which is not the case if it
+     *         was cancelled or has already run
+     */
+    final boolean claim(ScheduledTask task) {
+        if (!task.claim()) {
+            return false;
+        }
+        if (!task.isRepeating()) {
+            this.tasks.remove(task);
+        }
+        return true;
+    }
+
+    /**
+     * Runs a claimed task on the current thread, recording its
+     * statistics.
+     *
+     * @param task The task
+     */
+    final void run(ScheduledTask task) {
+        final long start = System.nanoTime();
+        try {
+            task.getRunnable().get().run();
+        } catch (Throwable t) {
+            log.error("The " + (isSynchronous() ? "synchronous" : "asynchronous") + " task " + task.getName().get() + " of "
+                    + task.getOwner().getId() + " has thrown an exception", t);
+        } finally {
+            task.recordRun(start, System.nanoTime());
+        }
+    }
+
+    private Optional<PluginContainer> getPlugin(Object plugin) {
+        checkNotNull(plugin, "plugin");
+        if (plugin instanceof PluginContainer) {
+            return Optional.of((PluginContainer) plugin);
+        }
+        return this.pluginManager.fromInstance(plugin);
+    }
+
+    @Override
+    public Optional<Task> getTaskById(UUID id) {
+        checkNotNull(id, "id");
+        return Optional.<Task>fromNullable(this.tasks.get(id));
+    }
+
+    @Override
+    public Optional<UUID> getUuidOfTaskByName(String name) {
+        checkNotNull(name, "name");
+        ScheduledTask task = this.tasks.getFirstByName(name);
+        return task == null ? Optional.<UUID>absent() : Optional.of(task.getUniqueId());
+    }
+
+    @Override
+    public Collection<Task> getTasksByName(String pattern) {
+        return ImmutableList.<Task>copyOf(this.tasks.getByPattern(Pattern.compile(checkNotNull(pattern, "pattern"))));
+    }
+
+    @Override
+    public Collection<Task> getScheduledTasks() {
+        return ImmutableList.<Task>copyOf(this.tasks.getAll());
+    }
+
+    @Override
+    public Collection<Task> getScheduledTasks(Object plugin) {
+        Optional<PluginContainer> owner = getPlugin(plugin);
+        if (!owner.isPresent()) {
+            return ImmutableList.of();
+        }
+        return ImmutableList.<Task>copyOf(this.tasks.getByOwner(owner.get()));
+    }
+
+    @Override
+    public List<Task> getTopTasksByTime(int limit) {
+        checkArgument(limit >= 0, "limit cannot be negative");
+        return ImmutableList.<Task>copyOf(BY_TOTAL_RUN_TIME.greatestOf(this.tasks.getAll(), limit));
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.scheduler;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * An {@link Executor} that runs at most a fixed number of tasks at the
+ * same time on a backing executor, queueing the rest.
+ *
+ * <p>A command that is rejected by the backing executor is only reported
+ * to the caller that submitted it. Commands of other callers that happen
+ * to be handed over at that time are put back into the queue and retried
+ * on the next submission or completion.</p>
+ */
+final class CappedExecutor implements Executor {
+
+    private final Executor backing;
+    private final int maxConcurrency;
+    private final BlockingDeque<Runnable> queue = new LinkedBlockingDeque<Runnable>();
+    private final AtomicInteger active = new AtomicInteger();
+
+    CappedExecutor(Executor backing, int maxConcurrency) {
+        this.backing = backing;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.queue.add(checkNotNull(command, "command"));
+        drain(command);
+    }
+
+    /**
+     * Hands queued commands to the backing executor until the cap is
+     * reached or the queue is empty.
+     *
+     * @param submitted The command of the calling {@link #execute(Runnable)},
+     *            or null if called once a command has completed
+     * @throws RejectedExecutionException If the backing executor rejected
+     *             the submitted command
+     */
+    private void drain(@Nullable Runnable submitted) {
+        while (!this.queue.isEmpty()) {
+            int current = this.active.get();
+            if (current >= this.maxConcurrency) {
+                return;
+            }
+            if (!this.active.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            final Runnable next = this.queue.poll();
+            if (next == null) {
+                this.active.decrementAndGet();
+                continue;
+            }
+            try {
+                this.backing.execute(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        try {
+                            next.run();
+                        } finally {
+                            CappedExecutor.this.active.decrementAndGet();
+                            drain(null);
+                        }
+                    }
+
+                });
+            } catch (RejectedExecutionException e) {
+                this.active.decrementAndGet();
+                if (next == submitted) {
+                    throw e;
+                }
+                // Not this caller's command, so keep it for a later attempt
+                this.queue.offerFirst(next);
+                return;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,264 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.scheduler;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Optional;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link Task} scheduled by one of the reference schedulers, which is
+ * also its own entry in the scheduler's {@link TimingWheel}.
+ */
+final class ScheduledTask extends TimingWheel.Entry implements Task {
+
+    private static final int WAITING = 0;
+    private static final int FINISHED = 1;
+    private static final int CANCELLED = 2;
+
+    private final AbstractScheduler scheduler;
+    private final UUID uniqueId = UUID.randomUUID();
+    private final PluginContainer owner;
+    private final Runnable runnable;
+    private final long delay;
+    private final long interval;
+    private final long intervalTicks;
+    private final AtomicInteger state = new AtomicInteger(WAITING);
+    private final AtomicInteger running = new AtomicInteger();
+    private volatile String name;
+    private volatile int deferrals;
+    private volatile long dispatchedAt;
+
+    // Guarded by this
+    private long runCount;
+    private long totalRunNanos;
+    private long lastRunNanos;
+    private long maxRunNanos;
+    private long totalQueueWaitNanos;
+    private long lastQueueWaitNanos;
+    private long overlapSkipCount;
+    volatile long nextDeadline;
+
+    ScheduledTask(AbstractScheduler scheduler, PluginContainer owner, Runnable runnable, String name, long delay, long interval,
+            long intervalTicks) {
+        this.scheduler = scheduler;
+        this.owner = owner;
+        this.runnable = runnable;
+        this.name = name;
+        this.delay = delay;
+        this.interval = interval;
+        this.intervalTicks = intervalTicks;
+    }
+
+    @Override
+    public UUID getUniqueId() {
+        return this.uniqueId;
+    }
+
+    @Override
+    public Optional<String> getName() {
+        return Optional.of(this.name);
+    }
+
+    @Override
+    public String setName(String name) {
+        if (name != null) {
+            this.scheduler.rename(this, name);
+        }
+        return this.name;
+    }
+
+    /**
+     * Sets the name of this task, without updating the index of the
+     * scheduler.
+     *
+     * @param name The new name
+     */
+    void assignName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public PluginContainer getOwner() {
+        return this.owner;
+    }
+
+    @Override
+    public Optional<Long> getDelay() {
+        return this.delay > 0 ? Optional.of(this.delay) : Optional.<Long>absent();
+    }
+
+    @Override
+    public Optional<Long> getInterval() {
+        return isRepeating() ? Optional.of(this.interval) : Optional.<Long>absent();
+    }
+
+    @Override
+    public Optional<Runnable> getRunnable() {
+        return Optional.of(this.runnable);
+    }
+
+    @Override
+    public boolean isSynchronous() {
+        return this.scheduler.isSynchronous();
+    }
+
+    @Override
+    public int getDeferralCount() {
+        return this.deferrals;
+    }
+
+    @Override
+    public synchronized TaskStatistics getStatistics() {
+        return new TaskStatistics(this.runCount, this.totalRunNanos, this.lastRunNanos, this.maxRunNanos, this.totalQueueWaitNanos,
+                this.lastQueueWaitNanos, this.overlapSkipCount);
+    }
+
+    /**
+     * Gets the time spent running this task, over all of its runs.
+     *
+     * @return The cumulative run time in nanoseconds
+     */
+    synchronized long getTotalRunNanos() {
+        return this.totalRunNanos;
+    }
+
+    @Override
+    public boolean cancel() {
+        if (this.state.compareAndSet(WAITING, CANCELLED)) {
+            this.scheduler.cancel(this);
+            return true;
+        }
+        return false;
+    }
+
+    boolean isRepeating() {
+        return this.interval > 0;
+    }
+
+    boolean isCancelled() {
+        return this.state.get() == CANCELLED;
+    }
+
+    long getIntervalTicks() {
+        return this.intervalTicks;
+    }
+
+    /**
+     * Claims the next run of this task once its deadline has passed.
+     *
+     * <p>A repeating task can be claimed until it is cancelled, any other
+     * task only once.</p>
+     *
+     * @return Whether the task should be run
+     */
+    boolean claim() {
+        if (isRepeating()) {
+            return this.state.get() == WAITING;
+        }
+        return this.state.compareAndSet(WAITING, FINISHED);
+    }
+
+    /**
+     * Marks the start of a run of this task, which lasts from the moment
+     * it is queued to be run until it has completed.
+     *
+     * <p>A run that is refused because the previous one is still in
+     * progress is counted as an overlap skip.</p>
+     *
+     * @return Whether no other run of this task was in progress
+     */
+    boolean enter() {
+        if (tryEnter()) {
+            return true;
+        }
+        synchronized (this) {
+            this.overlapSkipCount++;
+        }
+        return false;
+    }
+
+    /**
+     * Marks the start of a run of this task like {@link #enter()}, but
+     * without counting a refused run as an overlap skip.
+     *
+     * @return Whether no other run of this task was in progress
+     */
+    boolean tryEnter() {
+        if (this.running.compareAndSet(0, 1)) {
+            this.dispatchedAt = System.nanoTime();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Marks the end of a run of this task.
+     */
+    void exit() {
+        this.running.set(0);
+    }
+
+    /**
+     * Records a run of this task.
+     *
+     * @param start The {@link System#nanoTime()} the run started at
+     * @param end The {@link System#nanoTime()} the run completed at
+     */
+    synchronized void recordRun(long start, long end) {
+        long duration = end - start;
+        final long wait = Math.max(start - this.dispatchedAt, 0);
+        this.runCount++;
+        this.totalRunNanos += duration;
+        this.lastRunNanos = duration;
+        this.maxRunNanos = Math.max(this.maxRunNanos, duration);
+        this.totalQueueWaitNanos += wait;
+        this.lastQueueWaitNanos = wait;
+    }
+
+    /**
+     * Records that this task was carried over to the next tick. This is
+     * only called from the thread that advances the scheduler.
+     */
+    void defer() {
+        this.deferrals++;
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("uniqueId", this.uniqueId)
+                .add("name", this.name)
+                .add("owner", this.owner.getId())
+                .add("delay", this.delay)
+                .add("interval", this.interval)
+                .add("synchronous", isSynchronous())
+                .toString();
+    }
+
+}
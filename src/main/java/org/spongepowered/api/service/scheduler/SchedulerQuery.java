@@ -27,6 +27,7 @@
 import com.google.common.base.Optional;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 
@@ -59,6 +60,10 @@ public interface SchedulerQuery {
     /**
      * Gets the UUID of the task by name.
      *
+     * <p>The name has to match exactly. If several tasks share the name,
+     * the UUID of any one of them is returned. Implementations look names
+     * up in an index rather than visiting every task.</p>
+     *
      * @param name  The name of the task to search
      * @return The Optional&lt;UUID&gt; result from the search by name.
      */
@@ -72,6 +77,11 @@ public interface SchedulerQuery {
      * <p>If there are Tasks that match the regular expression pattern, the
      * Collection is not Optional.absent().</p>
      *
+     * <p>The pattern has to match the whole name of a task. Implementations
+     * only match the pattern against the names that start with its literal
+     * prefix, so a query that is run often should start with one, such as
+     * <tt>"MyPlugin-A-.*"</tt> rather than <tt>".*-A-.*"</tt>.</p>
+     *
      * @param pattern The regular expression pattern applied to the name of tasks.
      * @return Collection of Tasks that have names that match the pattern.
      */
@@ -88,8 +98,20 @@ public interface SchedulerQuery {
      * Returns a collection of all currently scheduled tasks owned by a
      * certain plugin.
      *
+     * <p>Implementations index tasks by owner, so this does not visit the
+     * tasks of other plugins.</p>
+     *
      * @param plugin The plugin to return tasks created by
      * @return A collection of scheduled tasks
      */
     Collection<Task> getScheduledTasks(Object plugin);
+
+    /**
+     * Returns the scheduled tasks that have spent the most time running,
+     * as reported by {@link TaskStatistics#getTotalRunNanos()}.
+     *
+     * @param limit The maximum number of tasks to return
+     * @return The tasks, in descending order of cumulative run time
+     */
+    List<Task> getTopTasksByTime(int limit);
 }
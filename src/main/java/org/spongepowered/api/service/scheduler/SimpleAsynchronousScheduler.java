@@ -0,0 +1,225 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.scheduler;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.inject.Inject;
+
+/**
+ * The default implementation of {@link AsynchronousScheduler}.
+ *
+ * <p>Tasks are kept in a hierarchical timing wheel that is advanced by a
+ * single driver thread at a fixed wall-clock resolution, so scheduling
+ * and cancelling a task take constant time however many tasks are
+ * waiting. Due tasks are handed to the executor chosen by a
+ * {@link TaskExecutorProvider}, and an occurrence of a repeating task is
+ * skipped while its previous occurrence is still running.</p>
+ *
+ * <p>Delays and intervals are rounded up to the resolution of the wheel.
+ * The driver thread is started when the first task is scheduled, and is
+ * stopped by {@link #shutdown()}.</p>
+ */
+public class SimpleAsynchronousScheduler extends AbstractScheduler implements AsynchronousScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SimpleAsynchronousScheduler.class);
+    private static final long DEFAULT_RESOLUTION = 10;
+
+    private final TaskExecutorProvider executors;
+    private final long tickNanos;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean shutdown;
+
+    /**
+     * Construct a simple {@link AsynchronousScheduler} that runs tasks on a
+     * cached thread pool, with a resolution of 10 milliseconds.
+     *
+     * @param pluginManager The plugin manager to get the
+     *            {@link PluginContainer} for a given plugin
+     */
+    @Inject
+    public SimpleAsynchronousScheduler(PluginManager pluginManager) {
+        this(pluginManager, TaskExecutorProviders.cached(), DEFAULT_RESOLUTION, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Construct a simple {@link AsynchronousScheduler}.
+     *
+     * @param pluginManager The plugin manager to get the
+     *            {@link PluginContainer} for a given plugin
+     * @param executor The executor to run tasks on
+     * @param resolution The duration of one tick of the wheel
+     * @param unit The time unit of the resolution
+     */
+    public SimpleAsynchronousScheduler(PluginManager pluginManager, ExecutorService executor, long resolution, TimeUnit unit) {
+        this(pluginManager, TaskExecutorProviders.shared(executor), resolution, unit);
+    }
+
+    /**
+     * Construct a simple {@link AsynchronousScheduler}.
+     *
+     * @param pluginManager The plugin manager to get the
+     *            {@link PluginContainer} for a given plugin
+     * @param executors The provider of the executors to run tasks on
+     * @param resolution The duration of one tick of the wheel
+     * @param unit The time unit of the resolution
+     */
+    public SimpleAsynchronousScheduler(PluginManager pluginManager, TaskExecutorProvider executors, long resolution, TimeUnit unit) {
+        super(pluginManager, "A");
+        checkNotNull(executors, "executors");
+        checkNotNull(unit, "unit");
+        checkArgument(resolution > 0, "resolution must be positive");
+        this.executors = executors;
+        this.tickNanos = unit.toNanos(resolution);
+    }
+
+    /**
+     * Stops the driver thread and shuts down the executors. Tasks that are
+     * still waiting will not run.
+     */
+    public void shutdown() {
+        this.shutdown = true;
+        this.executors.shutdown();
+    }
+
+    @Override
+    boolean isSynchronous() {
+        return false;
+    }
+
+    @Override
+    void dispatch(final ScheduledTask task) {
+        if (!claim(task) || !task.enter()) {
+            return;
+        }
+        try {
+            this.executors.getExecutor(task).execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        SimpleAsynchronousScheduler.this.run(task);
+                    } finally {
+                        task.exit();
+                    }
+                }
+
+            });
+        } catch (RejectedExecutionException e) {
+            task.exit();
+            if (!this.shutdown) {
+                log.error("The asynchronous task " + task.getName().get() + " of " + task.getOwner().getId() + " was rejected", e);
+            }
+        }
+    }
+
+    private long toTicks(TimeUnit scale, long duration) {
+        long nanos = checkNotNull(scale, "scale").toNanos(duration);
+        return nanos / this.tickNanos + (nanos % this.tickNanos == 0 ? 0 : 1);
+    }
+
+    private Optional<Task> schedule(Object plugin, Runnable task, TimeUnit scale, long delay, long interval) {
+        Optional<Task> result = schedule(plugin, task, delay, interval, toTicks(scale, delay), toTicks(scale, interval));
+        if (result.isPresent() && !this.shutdown && this.started.compareAndSet(false, true)) {
+            Thread driver = new Thread(new Driver(), "Sponge-AsyncScheduler-Driver");
+            driver.setDaemon(true);
+            driver.start();
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Task> runTask(Object plugin, Runnable task) {
+        return schedule(plugin, task, TimeUnit.MILLISECONDS, 0, 0);
+    }
+
+    @Override
+    public Optional<Task> runTaskAfter(Object plugin, Runnable task, TimeUnit scale, long delay) {
+        if (delay < 0) {
+            return Optional.absent();
+        }
+        return schedule(plugin, task, scale, delay, 0);
+    }
+
+    @Override
+    public Optional<Task> runRepeatingTask(Object plugin, Runnable task, TimeUnit scale, long interval) {
+        if (interval <= 0) {
+            return Optional.absent();
+        }
+        return schedule(plugin, task, scale, 0, interval);
+    }
+
+    @Override
+    public Optional<Task> runRepeatingTaskAfter(Object plugin, Runnable task, TimeUnit scale, long interval, long delay) {
+        if (interval <= 0 || delay < 0) {
+            return Optional.absent();
+        }
+        return schedule(plugin, task, scale, delay, interval);
+    }
+
+    /**
+     * Advances the wheel by one tick per elapsed resolution, catching up
+     * on ticks it has fallen behind on.
+     */
+    private final class Driver implements Runnable {
+
+        @Override
+        public void run() {
+            final long start = System.nanoTime();
+            long tick = 0;
+            while (!SimpleAsynchronousScheduler.this.shutdown) {
+                long remaining = start + (tick + 1) * SimpleAsynchronousScheduler.this.tickNanos - System.nanoTime();
+                if (remaining > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(remaining);
+                    } catch (InterruptedException e) {
+                        break;
+                    }
+                    continue;
+                }
+                tick++;
+                try {
+                    advance();
+                } catch (Throwable t) {
+                    log.error("Failed to advance the asynchronous scheduler", t);
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.scheduler;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Optional;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import javax.inject.Inject;
+
+/**
+ * The default implementation of {@link SynchronousScheduler}.
+ *
+ * <p>Tasks are kept in a hierarchical timing wheel that advances by one
+ * slot per server tick, so scheduling and cancelling a task take constant
+ * time and a tick only visits the tasks that are due on it, however many
+ * tasks are waiting for a later tick.</p>
+ *
+ * <p>A {@link #setTickBudget(long) tick budget} can be set to limit the
+ * time spent running tasks on a single tick. Once it is used up, the rest
+ * of the due tasks are carried over to the next tick, where they run
+ * before the tasks that only became due on that tick, in the order they
+ * originally became due. At least one task is run on every tick, so a
+ * task that takes longer than the budget does not stall the others.</p>
+ *
+ * <p>The implementation must call {@link #tick()} once per server tick
+ * from the main thread. Tasks may be scheduled and cancelled from any
+ * thread.</p>
+ */
+public class SimpleSynchronousScheduler extends AbstractScheduler implements SynchronousScheduler {
+
+    private final Queue<ScheduledTask> due = new ArrayDeque<ScheduledTask>();
+    private volatile long tickBudget;
+
+    /**
+     * Construct a simple {@link SynchronousScheduler}.
+     *
+     * @param pluginManager The plugin manager to get the
+     *            {@link PluginContainer} for a given plugin
+     */
+    @Inject
+    public SimpleSynchronousScheduler(PluginManager pluginManager) {
+        super(pluginManager, "S");
+    }
+
+    /**
+     * Gets the time budget for running tasks on a single tick.
+     *
+     * @return The budget in nanoseconds, or zero if there is no budget
+     */
+    public long getTickBudget() {
+        return this.tickBudget;
+    }
+
+    /**
+     * Sets the time budget for running tasks on a single tick.
+     *
+     * @param budget The budget in nanoseconds, or zero to run every due
+     *            task on its tick
+     */
+    public void setTickBudget(long budget) {
+        checkArgument(budget >= 0, "budget cannot be negative");
+        this.tickBudget = budget;
+    }
+
+    /**
+     * Runs the tasks that are due on the next tick, as far as the tick
+     * budget allows.
+     *
+     * <p>This must be called once per server tick from the main
+     * thread.</p>
+     */
+    public void tick() {
+        final long start = System.nanoTime();
+        final long budget = this.tickBudget;
+        advance();
+
+        boolean ran = false;
+        ScheduledTask task;
+        while ((task = this.due.peek()) != null) {
+            if (ran && budget > 0 && System.nanoTime() - start >= budget) {
+                for (ScheduledTask deferred : this.due) {
+                    deferred.defer();
+                }
+                return;
+            }
+            this.due.poll();
+            task.exit();
+            if (claim(task)) {
+                run(task);
+                ran = true;
+            }
+        }
+    }
+
+    @Override
+    boolean isSynchronous() {
+        return true;
+    }
+
+    @Override
+    void dispatch(ScheduledTask task) {
+        // A repeating task that is still waiting from an earlier tick is
+        // not queued twice. It has been counted as deferred already, so
+        // this is not an overlap.
+        if (task.tryEnter()) {
+            this.due.add(task);
+        }
+    }
+
+    @Override
+    public Optional<Task> runTask(Object plugin, Runnable task) {
+        return schedule(plugin, task, 0, 0, 0, 0);
+    }
+
+    @Override
+    public Optional<Task> runTaskAfter(Object plugin, Runnable task, long delay) {
+        if (delay < 0) {
+            return Optional.absent();
+        }
+        return schedule(plugin, task, delay, 0, delay, 0);
+    }
+
+    @Override
+    public Optional<Task> runRepeatingTask(Object plugin, Runnable task, long interval) {
+        if (interval <= 0) {
+            return Optional.absent();
+        }
+        return schedule(plugin, task, 0, interval, 0, interval);
+    }
+
+    @Override
+    public Optional<Task> runRepeatingTaskAfter(Object plugin, Runnable task, long interval, long delay) {
+        if (interval <= 0 || delay < 0) {
+            return Optional.absent();
+        }
+        return schedule(plugin, task, delay, interval, delay, interval);
+    }
+
+}
@@ -61,6 +61,23 @@ public interface Task extends Identifiable {
      */
     Optional<Long> getInterval();
 
+    /**
+     * Gets the number of times this task was carried over to a later tick
+     * because the scheduler had used up the time budget of a tick.
+     *
+     * <p>This is always zero for asynchronous tasks.</p>
+     *
+     * @return The number of times the task was deferred
+     */
+    int getDeferralCount();
+
+    /**
+     * Gets a snapshot of the execution statistics of this task.
+     *
+     * @return The statistics
+     */
+    TaskStatistics getStatistics();
+
     /**
      * Cancels the task, if it has not already run.
      *
@@ -0,0 +1,55 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.scheduler;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Provides the {@link Executor}s that asynchronous {@link Task}s are run
+ * on.
+ *
+ * <p>A provider is asked for an executor every time a task is due, so it
+ * may pick a different executor depending on the task or its owner, for
+ * example to keep plugins doing blocking I/O from occupying the threads
+ * that other plugins need. See {@link TaskExecutorProviders} for the
+ * common choices.</p>
+ */
+public interface TaskExecutorProvider {
+
+    /**
+     * Gets the executor to run the given task on.
+     *
+     * @param task The task that is due
+     * @return The executor to run it on
+     */
+    Executor getExecutor(Task task);
+
+    /**
+     * Shuts down the executors owned by this provider. Tasks that have
+     * already been submitted may still complete.
+     */
+    void shutdown();
+
+}
@@ -0,0 +1,194 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.scheduler;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factory methods for the common {@link TaskExecutorProvider}s.
+ */
+public final class TaskExecutorProviders {
+
+    private TaskExecutorProviders() {
+    }
+
+    /**
+     * Gets a provider that runs every task on a cached pool of daemon
+     * threads, which grows with the number of tasks running at the same
+     * time.
+     *
+     * @return The provider
+     */
+    public static TaskExecutorProvider cached() {
+        return shared(Executors.newCachedThreadPool(newThreadFactory("Sponge-AsyncScheduler-%d")));
+    }
+
+    /**
+     * Gets a provider that runs every task on the given executor, and shuts
+     * it down along with the scheduler.
+     *
+     * @param executor The executor
+     * @return The provider
+     */
+    public static TaskExecutorProvider shared(final ExecutorService executor) {
+        checkNotNull(executor, "executor");
+        return new TaskExecutorProvider() {
+
+            @Override
+            public Executor getExecutor(Task task) {
+                return executor;
+            }
+
+            @Override
+            public void shutdown() {
+                executor.shutdown();
+            }
+
+        };
+    }
+
+    /**
+     * Gets a provider that runs every task on a bounded work-stealing pool.
+     *
+     * <p>A {@code ForkJoinPool} is used where the runtime provides one,
+     * otherwise a fixed pool of the same size. This suits short, CPU-bound
+     * tasks; blocking tasks on a bounded pool hold up every other
+     * task.</p>
+     *
+     * @param parallelism The number of threads of the pool
+     * @return The provider
+     */
+    public static TaskExecutorProvider workStealing(int parallelism) {
+        checkArgument(parallelism > 0, "parallelism must be positive");
+        Optional<ExecutorService> pool = newReflectively("java.util.concurrent.ForkJoinPool", parallelism);
+        if (pool.isPresent()) {
+            return shared(pool.get());
+        }
+        return shared(Executors.newFixedThreadPool(parallelism, newThreadFactory("Sponge-AsyncScheduler-%d")));
+    }
+
+    /**
+     * Gets a provider that gives every plugin a share of a cached pool of
+     * daemon threads, running at most the given number of tasks of the
+     * same plugin at the same time.
+     *
+     * @param maxConcurrency The maximum number of tasks of one plugin
+     *            running at the same time
+     * @return The provider
+     * @see #perPlugin(ExecutorService, int)
+     */
+    public static TaskExecutorProvider perPlugin(int maxConcurrency) {
+        return perPlugin(Executors.newCachedThreadPool(newThreadFactory("Sponge-AsyncScheduler-%d")), maxConcurrency);
+    }
+
+    /**
+     * Gets a provider that gives every plugin a share of the given
+     * executor, running at most the given number of tasks of the same
+     * plugin at the same time.
+     *
+     * <p>Further tasks of a plugin that has reached the cap are queued
+     * until one of its running tasks completes, so a plugin doing blocking
+     * I/O only ever holds up its own tasks.</p>
+     *
+     * @param executor The executor to run the tasks on
+     * @param maxConcurrency The maximum number of tasks of one plugin
+     *            running at the same time
+     * @return The provider
+     */
+    public static TaskExecutorProvider perPlugin(final ExecutorService executor, final int maxConcurrency) {
+        checkNotNull(executor, "executor");
+        checkArgument(maxConcurrency > 0, "maxConcurrency must be positive");
+        final ConcurrentMap<PluginContainer, Executor> executors = new ConcurrentHashMap<PluginContainer, Executor>();
+        return new TaskExecutorProvider() {
+
+            @Override
+            public Executor getExecutor(Task task) {
+                Executor pluginExecutor = executors.get(task.getOwner());
+                if (pluginExecutor == null) {
+                    Executor created = new CappedExecutor(executor, maxConcurrency);
+                    pluginExecutor = executors.putIfAbsent(task.getOwner(), created);
+                    if (pluginExecutor == null) {
+                        pluginExecutor = created;
+                    }
+                }
+                return pluginExecutor;
+            }
+
+            @Override
+            public void shutdown() {
+                executor.shutdown();
+            }
+
+        };
+    }
+
+    /**
+     * Gets a provider that runs every task on a new virtual thread, if the
+     * runtime supports them.
+     *
+     * <p>Virtual threads are cheap to block, which makes them a good fit
+     * for tasks doing blocking I/O.</p>
+     *
+     * @return The provider, or {@link Optional#absent()} if the runtime
+     *         does not support virtual threads
+     */
+    public static Optional<TaskExecutorProvider> virtualThreads() {
+        try {
+            Object executor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            return Optional.of(shared((ExecutorService) executor));
+        } catch (Exception e) {
+            return Optional.absent();
+        }
+    }
+
+    private static Optional<ExecutorService> newReflectively(String className, int parallelism) {
+        try {
+            Object executor = Class.forName(className).getConstructor(int.class).newInstance(parallelism);
+            return Optional.of((ExecutorService) executor);
+        } catch (Exception e) {
+            return Optional.absent();
+        }
+    }
+
+    private static ThreadFactory newThreadFactory(String nameFormat) {
+        return new ThreadFactoryBuilder()
+                .setNameFormat(nameFormat)
+                .setDaemon(true)
+                .build();
+    }
+
+}
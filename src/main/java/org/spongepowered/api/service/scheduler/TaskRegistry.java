@@ -0,0 +1,189 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.scheduler;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ObjectArrays;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+/**
+ * The scheduled tasks of a scheduler, indexed by unique id, by owner and
+ * by name.
+ *
+ * <p>Names are kept in a sorted map, which serves both exact lookups and
+ * prefix lookups. A name pattern is only matched against the names that
+ * start with the literal prefix of the pattern, so a query such as
+ * {@code "MyPlugin-A-.*"} does not visit the tasks of other plugins.</p>
+ *
+ * <p>Lookups do not lock and may run concurrently with changes. Changes
+ * are serialized on the registry so that the indexes agree with each
+ * other.</p>
+ */
+final class TaskRegistry {
+
+    private static final ScheduledTask[] NO_TASKS = new ScheduledTask[0];
+    private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final ConcurrentMap<UUID, ScheduledTask> byId = new ConcurrentHashMap<UUID, ScheduledTask>();
+    private final ConcurrentMap<PluginContainer, Set<ScheduledTask>> byOwner = new ConcurrentHashMap<PluginContainer, Set<ScheduledTask>>();
+    // Most names are unique, so an array is cheaper than a set per name
+    private final ConcurrentNavigableMap<String, ScheduledTask[]> byName = new ConcurrentSkipListMap<String, ScheduledTask[]>();
+
+    synchronized void add(ScheduledTask task) {
+        this.byId.put(task.getUniqueId(), task);
+        Set<ScheduledTask> owned = this.byOwner.get(task.getOwner());
+        if (owned == null) {
+            owned = Collections.newSetFromMap(new ConcurrentHashMap<ScheduledTask, Boolean>());
+            this.byOwner.put(task.getOwner(), owned);
+        }
+        owned.add(task);
+        addName(task, task.getName().get());
+    }
+
+    synchronized void remove(ScheduledTask task) {
+        if (this.byId.remove(task.getUniqueId(), task)) {
+            this.byOwner.get(task.getOwner()).remove(task);
+            removeName(task, task.getName().get());
+        }
+    }
+
+    synchronized void rename(ScheduledTask task, String name) {
+        String oldName = task.getName().get();
+        task.assignName(name);
+        if (this.byId.get(task.getUniqueId()) == task) {
+            removeName(task, oldName);
+            addName(task, name);
+        }
+    }
+
+    private void addName(ScheduledTask task, String name) {
+        ScheduledTask[] named = this.byName.get(name);
+        this.byName.put(name, named == null ? new ScheduledTask[] {task} : ObjectArrays.concat(named, task));
+    }
+
+    private void removeName(ScheduledTask task, String name) {
+        ScheduledTask[] named = this.byName.get(name);
+        if (named == null) {
+            return;
+        }
+        ScheduledTask[] remaining = NO_TASKS;
+        for (int i = 0; i < named.length; i++) {
+            if (named[i] == task) {
+                remaining = new ScheduledTask[named.length - 1];
+                System.arraycopy(named, 0, remaining, 0, i);
+                System.arraycopy(named, i + 1, remaining, i, named.length - i - 1);
+                break;
+            }
+        }
+        if (remaining.length == 0) {
+            this.byName.remove(name);
+        } else {
+            this.byName.put(name, remaining);
+        }
+    }
+
+    @Nullable
+    ScheduledTask get(UUID id) {
+        return this.byId.get(id);
+    }
+
+    Collection<ScheduledTask> getAll() {
+        return this.byId.values();
+    }
+
+    Collection<ScheduledTask> getByOwner(PluginContainer owner) {
+        Set<ScheduledTask> owned = this.byOwner.get(owner);
+        return owned == null ? Collections.<ScheduledTask>emptySet() : owned;
+    }
+
+    @Nullable
+    ScheduledTask getFirstByName(String name) {
+        ScheduledTask[] named = this.byName.get(name);
+        return named == null ? null : named[0];
+    }
+
+    /**
+     * Gets the tasks whose name matches the given pattern as a whole.
+     *
+     * @param pattern The pattern
+     * @return The matching tasks
+     */
+    ImmutableList<ScheduledTask> getByPattern(Pattern pattern) {
+        String prefix = getLiteralPrefix(pattern.pattern());
+        ImmutableList.Builder<ScheduledTask> builder = ImmutableList.builder();
+        for (Map.Entry<String, ScheduledTask[]> entry : this.byName.tailMap(prefix).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            if (pattern.matcher(entry.getKey()).matches()) {
+                builder.add(entry.getValue());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets a prefix that every string matching the given regular expression
+     * starts with.
+     *
+     * <p>This is conservative: an empty prefix is returned whenever the
+     * expression is not trivially a literal followed by anything else.</p>
+     *
+     * @param regex The regular expression
+     * @return The literal prefix, which may be empty
+     */
+    static String getLiteralPrefix(String regex) {
+        if (regex.indexOf('|') >= 0) {
+            return "";
+        }
+        StringBuilder prefix = new StringBuilder();
+        for (int i = regex.startsWith("^") ? 1 : 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (META_CHARACTERS.indexOf(c) >= 0) {
+                // The previous character may be repeated zero times
+                if ((c == '?' || c == '*' || c == '{') && prefix.length() > 0) {
+                    prefix.setLength(prefix.length() - 1);
+                }
+                break;
+            }
+            prefix.append(c);
+        }
+        return prefix.toString();
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.scheduler;
+
+import com.google.common.base.Objects;
+
+/**
+ * A snapshot of the execution statistics of a {@link Task}.
+ *
+ * <p>All durations are in nanoseconds.</p>
+ */
+public final class TaskStatistics {
+
+    private final long runCount;
+    private final long totalRunNanos;
+    private final long lastRunNanos;
+    private final long maxRunNanos;
+    private final long totalQueueWaitNanos;
+    private final long lastQueueWaitNanos;
+    private final long overlapSkipCount;
+
+    TaskStatistics(long runCount, long totalRunNanos, long lastRunNanos, long maxRunNanos, long totalQueueWaitNanos,
+            long lastQueueWaitNanos, long overlapSkipCount) {
+        this.runCount = runCount;
+        this.totalRunNanos = totalRunNanos;
+        this.lastRunNanos = lastRunNanos;
+        this.maxRunNanos = maxRunNanos;
+        this.totalQueueWaitNanos = totalQueueWaitNanos;
+        this.lastQueueWaitNanos = lastQueueWaitNanos;
+        this.overlapSkipCount = overlapSkipCount;
+    }
+
+    /**
+     * Gets the number of times the task has run.
+     *
+     * @return The number of runs
+     */
+    public long getRunCount() {
+        return this.runCount;
+    }
+
+    /**
+     * Gets the time spent running the task, over all of its runs.
+     *
+     * @return The cumulative run time
+     */
+    public long getTotalRunNanos() {
+        return this.totalRunNanos;
+    }
+
+    /**
+     * Gets the time the last run of the task took.
+     *
+     * @return The last run time, or zero if the task has not run yet
+     */
+    public long getLastRunNanos() {
+        return this.lastRunNanos;
+    }
+
+    /**
+     * Gets the average time a run of the task took.
+     *
+     * @return The average run time, or zero if the task has not run yet
+     */
+    public long getAverageRunNanos() {
+        return this.runCount == 0 ? 0 : this.totalRunNanos / this.runCount;
+    }
+
+    /**
+     * Gets the time the longest run of the task took.
+     *
+     * @return The maximum run time, or zero if the task has not run yet
+     */
+    public long getMaxRunNanos() {
+        return this.maxRunNanos;
+    }
+
+    /**
+     * Gets the time the task waited to start on its last run, after it
+     * became due.
+     *
+     * <p>For synchronous tasks this is the time spent waiting for other
+     * tasks of the same tick, or for later ticks if the task was deferred.
+     * For asynchronous tasks this is the time spent waiting for a thread
+     * of the executor.</p>
+     *
+     * @return The last queue wait time, or zero if the task has not run yet
+     */
+    public long getLastQueueWaitNanos() {
+        return this.lastQueueWaitNanos;
+    }
+
+    /**
+     * Gets the average time the task waited to start after it became due.
+     *
+     * @return The average queue wait time, or zero if the task has not run
+     *         yet
+     * @see #getLastQueueWaitNanos()
+     */
+    public long getAverageQueueWaitNanos() {
+        return this.runCount == 0 ? 0 : this.totalQueueWaitNanos / this.runCount;
+    }
+
+    /**
+     * Gets the number of times a repeating task became due while its
+     * previous run had not completed yet, and was therefore skipped.
+     *
+     * @return The number of skipped runs
+     */
+    public long getOverlapSkipCount() {
+        return this.overlapSkipCount;
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("runCount", this.runCount)
+                .add("totalRunNanos", this.totalRunNanos)
+                .add("lastRunNanos", this.lastRunNanos)
+                .add("maxRunNanos", this.maxRunNanos)
+                .add("lastQueueWaitNanos", this.lastQueueWaitNanos)
+                .add("overlapSkipCount", this.overlapSkipCount)
+                .toString();
+    }
+
+}
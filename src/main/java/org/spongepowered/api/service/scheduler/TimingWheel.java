@@ -0,0 +1,228 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.scheduler;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A hierarchical timing wheel, in the style of the timer wheels used by
+ * operating system kernels.
+ *
+ * <p>Entries are kept in {@link #LEVELS} wheels of {@link #WHEEL_SIZE}
+ * slots each, where a slot of level {@code n} spans
+ * {@code WHEEL_SIZE^n} ticks. An entry is placed into the lowest level
+ * that can hold its deadline, and is moved one level down when the slot
+ * it lives in comes around. Scheduling and cancelling an entry are
+ * therefore constant time operations, and advancing the wheel only
+ * touches the entries of the slots that are due, no matter how many
+ * entries are waiting further in the future.</p>
+ *
+ * <p>A slot keeps its entries in the order they were added, so entries
+ * scheduled for the same tick from the same level of the wheel expire in
+ * the order they were scheduled in.</p>
+ *
+ * <p>Entries are intrusive: each entry holds its own links, so no
+ * allocation takes place when scheduling, cancelling or expiring one.
+ * An entry can be in at most one wheel at a time.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * @param <E> The type of entry
+ */
+final class TimingWheel<E extends TimingWheel.Entry> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 5;
+    private static final long MAX_DELTA = (1L << (WHEEL_BITS * LEVELS)) - 1;
+
+    private final Entry[][] heads = new Entry[LEVELS][WHEEL_SIZE];
+    private final Entry[][] tails = new Entry[LEVELS][WHEEL_SIZE];
+    private long currentTick;
+    private int size;
+
+    /**
+     * Gets the tick the wheel has advanced to.
+     *
+     * @return The current tick
+     */
+    long getCurrentTick() {
+        return this.currentTick;
+    }
+
+    /**
+     * Gets the number of entries in the wheel.
+     *
+     * @return The number of entries
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Schedules an entry to expire at the given tick.
+     *
+     * <p>A deadline that is not after the current tick expires on the
+     * next call to {@link #advance(List)}.</p>
+     *
+     * @param entry The entry, which must not be scheduled already
+     * @param deadline The tick to expire the entry at
+     */
+    void schedule(E entry, long deadline) {
+        checkState(entry.level == Entry.UNSCHEDULED, "Entry is already scheduled");
+        entry.deadline = deadline;
+        insert(entry);
+        this.size++;
+    }
+
+    /**
+     * Removes an entry from the wheel.
+     *
+     * @param entry The entry
+     * @return Whether the entry was scheduled in this wheel
+     */
+    boolean cancel(E entry) {
+        if (entry.level == Entry.UNSCHEDULED) {
+            return false;
+        }
+        unlink(entry);
+        this.size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel by one tick and collects the entries that expire
+     * on it.
+     *
+     * <p>Expired entries are removed from the wheel before they are added
+     * to the list, so they can be scheduled again right away.</p>
+     *
+     * @param expired The list to add the expired entries to
+     */
+    @SuppressWarnings("unchecked")
+    void advance(List<? super E> expired) {
+        final long tick = ++this.currentTick;
+
+        for (int level = 1; level < LEVELS; level++) {
+            if ((tick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) {
+                break;
+            }
+            int slot = (int) (tick >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+            Entry entry = this.heads[level][slot];
+            this.heads[level][slot] = this.tails[level][slot] = null;
+            while (entry != null) {
+                Entry next = entry.next;
+                entry.level = Entry.UNSCHEDULED;
+                if (entry.deadline <= tick) {
+                    entry.prev = entry.next = null;
+                    this.size--;
+                    expired.add((E) entry);
+                } else {
+                    insert(entry);
+                }
+                entry = next;
+            }
+        }
+
+        int slot = (int) tick & WHEEL_MASK;
+        Entry entry = this.heads[0][slot];
+        this.heads[0][slot] = this.tails[0][slot] = null;
+        while (entry != null) {
+            Entry next = entry.next;
+            entry.level = Entry.UNSCHEDULED;
+            entry.prev = entry.next = null;
+            this.size--;
+            expired.add((E) entry);
+            entry = next;
+        }
+    }
+
+    private void insert(Entry entry) {
+        long delta = Math.min(Math.max(entry.deadline - this.currentTick, 1), MAX_DELTA);
+        long deadline = this.currentTick + delta;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) (deadline >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+
+        Entry tail = this.tails[level][slot];
+        entry.prev = tail;
+        entry.next = null;
+        if (tail != null) {
+            tail.next = entry;
+        } else {
+            this.heads[level][slot] = entry;
+        }
+        this.tails[level][slot] = entry;
+        entry.level = level;
+        entry.slot = slot;
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            this.heads[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        } else {
+            this.tails[entry.level][entry.slot] = entry.prev;
+        }
+        entry.prev = entry.next = null;
+        entry.level = Entry.UNSCHEDULED;
+    }
+
+    /**
+     * The links of an entry in a {@link TimingWheel}.
+     */
+    abstract static class Entry {
+
+        static final int UNSCHEDULED = -1;
+
+        @Nullable Entry prev;
+        @Nullable Entry next;
+        long deadline;
+        int level = UNSCHEDULED;
+        int slot;
+
+        /**
+         * Gets the tick this entry was last scheduled to expire at.
+         *
+         * @return The deadline tick
+         */
+        final long getDeadline() {
+            return this.deadline;
+        }
+
+    }
+
+}
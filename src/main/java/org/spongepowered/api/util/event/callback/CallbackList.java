@@ -24,20 +24,29 @@
  */
 package org.spongepowered.api.util.event.callback;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spongepowered.api.event.Cancellable;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A collection of callbacks.
  *
- * <p>Entries in the list cannot be removed, but new entries can be added.</p>
+ * <p>The list is safe for concurrent use without locking: callbacks can be
+ * added and removed from any thread, for example from asynchronous tasks,
+ * while the list is being run. Every modification atomically replaces the
+ * backing array, so running or iterating the list always operates on a
+ * consistent snapshot.</p>
  *
  * <p>A misbehavior callback (one that throws an exception) will not halt
  * the processing of other callbacks.</p>
@@ -45,13 +54,41 @@
 public final class CallbackList implements Collection<EventCallback> {
 
     private static final Logger log = LoggerFactory.getLogger(CallbackList.class);
-    private final List<EventCallback> callbacks = new ArrayList<EventCallback>();
+    private static final EventCallback[] EMPTY = new EventCallback[0];
+    private final AtomicReference<EventCallback[]> callbacks = new AtomicReference<EventCallback[]>(EMPTY);
 
     /**
      * Execute all callbacks in the correct order.
      */
     public void runAll() {
-        for (EventCallback callback : this.callbacks) {
+        runAll(this.callbacks.get());
+    }
+
+    /**
+     * Execute all callbacks in the correct order as a single task on the
+     * given executor.
+     *
+     * <p>The callbacks that are run are those in the list at the time this
+     * method is called.</p>
+     *
+     * @param executor The executor to run the callbacks on
+     * @return A future that completes once all callbacks have been run
+     */
+    public ListenableFuture<?> runAll(Executor executor) {
+        checkNotNull(executor, "executor");
+        final EventCallback[] snapshot = this.callbacks.get();
+        ListenableFutureTask<Void> task = ListenableFutureTask.create(new Runnable() {
+            @Override
+            public void run() {
+                runAll(snapshot);
+            }
+        }, null);
+        executor.execute(task);
+        return task;
+    }
+
+    private static void runAll(EventCallback[] callbacks) {
+        for (EventCallback callback : callbacks) {
             try {
                 callback.run();
             } catch (Exception e) {
@@ -64,7 +101,7 @@ public void runAll() {
      * Cancel all callbacks.
      */
     public void cancelAll() {
-        for (EventCallback callback : this.callbacks) {
+        for (EventCallback callback : this.callbacks.get()) {
             if (callback instanceof Cancellable) {
                 ((Cancellable) callback).setCancelled(true);
             }
@@ -73,67 +110,153 @@ public void cancelAll() {
 
     @Override
     public int size() {
-        return this.callbacks.size();
+        return this.callbacks.get().length;
     }
 
     @Override
     public boolean isEmpty() {
-        return this.callbacks.isEmpty();
+        return this.callbacks.get().length == 0;
     }
 
     @Override
     public boolean contains(Object o) {
-        return this.callbacks.contains(o);
+        return indexOf(this.callbacks.get(), o) != -1;
     }
 
+    private static int indexOf(EventCallback[] callbacks, Object o) {
+        for (int i = 0; i < callbacks.length; i++) {
+            if (callbacks[i].equals(o)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the callbacks. The iterator
+     * does not support removal and is not affected by later changes to
+     * the list.
+     *
+     * @return An iterator over the callbacks
+     */
     @Override
     public Iterator<EventCallback> iterator() {
-        return Iterators.unmodifiableIterator(this.callbacks.iterator());
+        return Iterators.forArray(this.callbacks.get());
     }
 
     @Override
     public Object[] toArray() {
-        return this.callbacks.toArray();
+        EventCallback[] current = this.callbacks.get();
+        return Arrays.copyOf(current, current.length, Object[].class);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T[] toArray(T[] a) {
-        return this.callbacks.toArray(a);
+        EventCallback[] current = this.callbacks.get();
+        if (a.length < current.length) {
+            return (T[]) Arrays.copyOf(current, current.length, a.getClass());
+        }
+        System.arraycopy(current, 0, a, 0, current.length);
+        if (a.length > current.length) {
+            a[current.length] = null;
+        }
+        return a;
     }
 
     @Override
     public boolean add(EventCallback callback) {
-        return this.callbacks.add(callback);
+        checkNotNull(callback, "callback");
+        while (true) {
+            EventCallback[] current = this.callbacks.get();
+            EventCallback[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = callback;
+            if (this.callbacks.compareAndSet(current, updated)) {
+                return true;
+            }
+        }
     }
 
     @Override
     public boolean remove(Object o) {
-        throw new UnsupportedOperationException("Cannot remove entries from the callback list");
+        while (true) {
+            EventCallback[] current = this.callbacks.get();
+            int index = indexOf(current, o);
+            if (index == -1) {
+                return false;
+            }
+            EventCallback[] updated = new EventCallback[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, updated.length - index);
+            if (this.callbacks.compareAndSet(current, updated)) {
+                return true;
+            }
+        }
     }
 
     @Override
     public boolean containsAll(Collection<?> c) {
-        return this.callbacks.containsAll(c);
+        EventCallback[] current = this.callbacks.get();
+        for (Object o : c) {
+            if (indexOf(current, o) == -1) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public boolean addAll(Collection<? extends EventCallback> c) {
-        return this.callbacks.addAll(c);
+        EventCallback[] added = c.toArray(new EventCallback[c.size()]);
+        if (added.length == 0) {
+            return false;
+        }
+        for (EventCallback callback : added) {
+            checkNotNull(callback, "callback");
+        }
+        while (true) {
+            EventCallback[] current = this.callbacks.get();
+            EventCallback[] updated = Arrays.copyOf(current, current.length + added.length);
+            System.arraycopy(added, 0, updated, current.length, added.length);
+            if (this.callbacks.compareAndSet(current, updated)) {
+                return true;
+            }
+        }
     }
 
     @Override
     public boolean removeAll(Collection<?> c) {
-        throw new UnsupportedOperationException("Cannot remove entries from the callback list");
+        return filter(c, false);
     }
 
     @Override
     public boolean retainAll(Collection<?> c) {
-        throw new UnsupportedOperationException("Cannot remove entries from the callback list");
+        return filter(c, true);
+    }
+
+    private boolean filter(Collection<?> c, boolean retain) {
+        checkNotNull(c, "c");
+        while (true) {
+            EventCallback[] current = this.callbacks.get();
+            EventCallback[] updated = new EventCallback[current.length];
+            int size = 0;
+            for (EventCallback callback : current) {
+                if (c.contains(callback) == retain) {
+                    updated[size++] = callback;
+                }
+            }
+            if (size == current.length) {
+                return false;
+            }
+            if (this.callbacks.compareAndSet(current, Arrays.copyOf(updated, size))) {
+                return true;
+            }
+        }
     }
 
     @Override
     public void clear() {
-        throw new UnsupportedOperationException("Cannot remove entries from the callback list");
+        this.callbacks.set(EMPTY);
     }
 
 }
@@ -30,17 +30,23 @@
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ARETURN;
 import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.ATHROW;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DCONST_0;
 import static org.objectweb.asm.Opcodes.DLOAD;
 import static org.objectweb.asm.Opcodes.DRETURN;
 import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.FCONST_0;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FRETURN;
 import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.IFNULL;
@@ -51,6 +57,7 @@
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.IRETURN;
 import static org.objectweb.asm.Opcodes.ISUB;
+import static org.objectweb.asm.Opcodes.LCONST_0;
 import static org.objectweb.asm.Opcodes.LLOAD;
 import static org.objectweb.asm.Opcodes.LRETURN;
 import static org.objectweb.asm.Opcodes.NEW;
@@ -83,6 +90,9 @@
  */
 public class ClassGenerator {
 
+    private static final String RETAINED_FIELD = "$retained";
+    private static final String POOLED_FIELD = "$pooled";
+
     private final PropertySearchStrategy propertySearch = new AccessorFirstStrategy();
     private NullPolicy nullPolicy = NullPolicy.DISABLE_PRECONDITIONS;
     private final List<String> primitivePropertyExceptions = ImmutableList.of("cancelled");
@@ -238,6 +248,20 @@ public void setNullPolicy(NullPolicy nullPolicy) {
      * @return The class' contents, to be loaded via a {@link ClassLoader}
      */
     public byte[] createClass(final Class<?> type, final String name, final Class<?> parentType) {
+        return createClass(type, name, parentType, false);
+    }
+
+    /**
+     * Create the event class, optionally implementing {@link ResettableEvent}
+     * so that instances of it can be reused.
+     *
+     * @param type The type
+     * @param name The canonical of the generated class
+     * @param parentType The parent type
+     * @param resettable Whether the class should implement {@link ResettableEvent}
+     * @return The class' contents, to be loaded via a {@link ClassLoader}
+     */
+    public byte[] createClass(final Class<?> type, final String name, final Class<?> parentType, final boolean resettable) {
         checkNotNull(type, "type");
         checkNotNull(name, "name");
         checkNotNull(parentType, "parentType");
@@ -245,8 +269,12 @@ public byte[] createClass(final Class<?> type, final String name, final Class<?>
         final ImmutableSet<? extends Property> properties = this.propertySearch.findProperties(type);
         final String internalName = name.replace('.', '/');
 
+        final String[] interfaces = resettable
+                ? new String[]{Type.getInternalName(type), Type.getInternalName(ResettableEvent.class)}
+                : new String[]{Type.getInternalName(type)};
+
         final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
-        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER, internalName, null, Type.getInternalName(parentType), new String[]{Type.getInternalName(type)});
+        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER, internalName, null, Type.getInternalName(parentType), interfaces);
 
         // Create the fields
         for (Property property : properties) {
@@ -271,92 +299,17 @@ public byte[] createClass(final Class<?> type, final String name, final Class<?>
             mv.visitVarInsn(ALOAD, 0);
             mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(parentType), "<init>", "()V", false);
 
-            for (Property property : properties) {
-                if (((hasImplementation(parentType, property.getAccessor()) && getSetField(parentType, property.getName()) == null) || !property.isLeastSpecificType())) {
-                    continue;
-                }
-
-                // Object value = map.get("key")
-                mv.visitVarInsn(ALOAD, 1);
-                mv.visitLdcInsn(property.getName());
-                mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "remove", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
-                mv.visitVarInsn(ASTORE, 2);
-
-                // Only if we have a null policy:
-                // if (value == null) throw new NullPointerException(...)
-                if (this.nullPolicy != NullPolicy.DISABLE_PRECONDITIONS) {
-                    boolean useNullTest = ((this.nullPolicy == NullPolicy.NON_NULL_BY_DEFAULT && !property.hasNullable())
-                            || (this.nullPolicy == NullPolicy.NULL_BY_DEFAULT && property.hasNonnull())) && fieldRequired(parentType, property.getName());
-
-                    if (useNullTest && (!property.getType().isPrimitive() || !this.primitivePropertyExceptions.contains(property.getName()))) {
-                        Label afterNullTest = new Label();
-                        mv.visitVarInsn(ALOAD, 2);
-                        mv.visitJumpInsn(IFNONNULL, afterNullTest);
-                        mv.visitTypeInsn(NEW, "java/lang/NullPointerException");
-                        mv.visitInsn(DUP);
-                        mv.visitLdcInsn(property.getName());
-                        mv.visitMethodInsn(INVOKESPECIAL, "java/lang/NullPointerException", "<init>", "(Ljava/lang/String;)V", false);
-                        mv.visitInsn(ATHROW);
-                        mv.visitLabel(afterNullTest);
-                    }
-                }
-
-                boolean hasSetField = getSetField(parentType, property.getName()) != null;
-
-                Label afterPut = new Label();
-
-                // if (value != null) {
-                mv.visitVarInsn(ALOAD, 2);
-                mv.visitJumpInsn(IFNULL, afterPut);
-
-                // stack: -> this
-                mv.visitVarInsn(ALOAD, 0);
-
-                // ProperObject newValue = (ProperObject) value
-                mv.visitVarInsn(ALOAD, 2);
-                visitUnboxingMethod(mv, property.getType());
-
-                // this.field = newValue
-                if (hasSetField) {
-                    mv.visitFieldInsn(PUTFIELD, Type.getInternalName(parentType), property.getName(), Type.getDescriptor(property.getType()));
-                } else {
-                    mv.visitFieldInsn(PUTFIELD, internalName, property.getName(), Type.getDescriptor(property.getType()));
-                }
-                // }
-
-                mv.visitLabel(afterPut);
-            }
-
-            // if (!map.isEmpty()) throw new IllegalArgumentException(...)
-            {
-                Label afterException = new Label();
-
-                mv.visitVarInsn(ALOAD, 1);
-                mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "isEmpty", "()Z", true);
-                mv.visitJumpInsn(IFNE, afterException);
-
-                mv.visitTypeInsn(NEW, "java/lang/IllegalArgumentException");
-                mv.visitInsn(DUP);
-                mv.visitTypeInsn(NEW, "java/lang/StringBuilder");
-                mv.visitInsn(DUP);
-                mv.visitMethodInsn(INVOKESPECIAL, "java/lang/StringBuilder", "<init>", "()V", false);
-                mv.visitLdcInsn("Some parameters are unused: ");
-                mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false);
-                mv.visitVarInsn(ALOAD, 1);
-                mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "keySet", "()Ljava/util/Set;", true);
-                mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/Object;)Ljava/lang/StringBuilder;", false);
-                mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false);
-                mv.visitMethodInsn(INVOKESPECIAL, "java/lang/IllegalArgumentException", "<init>", "(Ljava/lang/String;)V", false);
-                mv.visitInsn(ATHROW);
-
-                mv.visitLabel(afterException);
-            }
+            visitPropertyAssignments(mv, internalName, parentType, properties, false);
 
             mv.visitInsn(RETURN);
             mv.visitMaxs(0, 0);
             mv.visitEnd();
         }
 
+        if (resettable) {
+            createResettableMethods(cw, internalName, parentType, properties);
+        }
+
         // The return value of toString takes the form of "ClassName{param1=value1, param2=value2, ...}"
 
 
@@ -461,6 +414,216 @@ public byte[] createClass(final Class<?> type, final String name, final Class<?>
         return cw.toByteArray();
     }
 
+    /**
+     * Insert the code that assigns the properties of a generated class
+     * from the map in local variable 1.
+     *
+     * @param mv The method visitor
+     * @param internalName The internal name of the generated class
+     * @param parentType The parent type
+     * @param properties The properties of the generated class
+     * @param resetAbsent Whether fields that are not in the map should be
+     *        reset to their default value
+     */
+    private void visitPropertyAssignments(MethodVisitor mv, String internalName, Class<?> parentType,
+            ImmutableSet<? extends Property> properties, boolean resetAbsent) {
+        for (Property property : properties) {
+            if (((hasImplementation(parentType, property.getAccessor()) && getSetField(parentType, property.getName()) == null) || !property.isLeastSpecificType())) {
+                continue;
+            }
+
+            // Object value = map.get("key")
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitLdcInsn(property.getName());
+            mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "remove", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
+            mv.visitVarInsn(ASTORE, 2);
+
+            // Only if we have a null policy:
+            // if (value == null) throw new NullPointerException(...)
+            if (this.nullPolicy != NullPolicy.DISABLE_PRECONDITIONS) {
+                boolean useNullTest = ((this.nullPolicy == NullPolicy.NON_NULL_BY_DEFAULT && !property.hasNullable())
+                        || (this.nullPolicy == NullPolicy.NULL_BY_DEFAULT && property.hasNonnull())) && fieldRequired(parentType, property.getName());
+
+                if (useNullTest && (!property.getType().isPrimitive() || !this.primitivePropertyExceptions.contains(property.getName()))) {
+                    Label afterNullTest = new Label();
+                    mv.visitVarInsn(ALOAD, 2);
+                    mv.visitJumpInsn(IFNONNULL, afterNullTest);
+                    mv.visitTypeInsn(NEW, "java/lang/NullPointerException");
+                    mv.visitInsn(DUP);
+                    mv.visitLdcInsn(property.getName());
+                    mv.visitMethodInsn(INVOKESPECIAL, "java/lang/NullPointerException", "<init>", "(Ljava/lang/String;)V", false);
+                    mv.visitInsn(ATHROW);
+                    mv.visitLabel(afterNullTest);
+                }
+            }
+
+            boolean hasSetField = getSetField(parentType, property.getName()) != null;
+
+            Label afterPut = new Label();
+
+            // if (value != null) {
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitJumpInsn(IFNULL, afterPut);
+
+            // stack: -> this
+            mv.visitVarInsn(ALOAD, 0);
+
+            // ProperObject newValue = (ProperObject) value
+            mv.visitVarInsn(ALOAD, 2);
+            visitUnboxingMethod(mv, property.getType());
+
+            // this.field = newValue
+            if (hasSetField) {
+                mv.visitFieldInsn(PUTFIELD, Type.getInternalName(parentType), property.getName(), Type.getDescriptor(property.getType()));
+            } else {
+                mv.visitFieldInsn(PUTFIELD, internalName, property.getName(), Type.getDescriptor(property.getType()));
+            }
+            // }
+
+            // Final fields of the parent type can only be set by its own constructor
+            if (resetAbsent && !(hasSetField && Modifier.isFinal(getModifiers(parentType, property.getName())))) {
+                // else { this.field = default }
+                Label afterReset = new Label();
+                mv.visitJumpInsn(GOTO, afterReset);
+                mv.visitLabel(afterPut);
+                mv.visitVarInsn(ALOAD, 0);
+                visitDefaultValue(mv, property.getType());
+                if (hasSetField) {
+                    mv.visitFieldInsn(PUTFIELD, Type.getInternalName(parentType), property.getName(), Type.getDescriptor(property.getType()));
+                } else {
+                    mv.visitFieldInsn(PUTFIELD, internalName, property.getName(), Type.getDescriptor(property.getType()));
+                }
+                mv.visitLabel(afterReset);
+            } else {
+                mv.visitLabel(afterPut);
+            }
+        }
+
+        // if (!map.isEmpty()) throw new IllegalArgumentException(...)
+        {
+            Label afterException = new Label();
+
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "isEmpty", "()Z", true);
+            mv.visitJumpInsn(IFNE, afterException);
+
+            mv.visitTypeInsn(NEW, "java/lang/IllegalArgumentException");
+            mv.visitInsn(DUP);
+            mv.visitTypeInsn(NEW, "java/lang/StringBuilder");
+            mv.visitInsn(DUP);
+            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/StringBuilder", "<init>", "()V", false);
+            mv.visitLdcInsn("Some parameters are unused: ");
+            mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "keySet", "()Ljava/util/Set;", true);
+            mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/Object;)Ljava/lang/StringBuilder;", false);
+            mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false);
+            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/IllegalArgumentException", "<init>", "(Ljava/lang/String;)V", false);
+            mv.visitInsn(ATHROW);
+
+            mv.visitLabel(afterException);
+        }
+    }
+
+    /**
+     * Insert the instruction that pushes the default value of a type.
+     *
+     * @param mv The method visitor
+     * @param type The type
+     */
+    private static void visitDefaultValue(MethodVisitor mv, Class<?> type) {
+        if (type == long.class) {
+            mv.visitInsn(LCONST_0);
+        } else if (type == float.class) {
+            mv.visitInsn(FCONST_0);
+        } else if (type == double.class) {
+            mv.visitInsn(DCONST_0);
+        } else if (type.isPrimitive()) {
+            mv.visitInsn(ICONST_0);
+        } else {
+            mv.visitInsn(ACONST_NULL);
+        }
+    }
+
+    /**
+     * Create the methods of {@link ResettableEvent} in a generated class.
+     *
+     * @param cw The class writer
+     * @param internalName The internal name of the generated class
+     * @param parentType The parent type
+     * @param properties The properties of the generated class
+     */
+    private void createResettableMethods(ClassWriter cw, String internalName, Class<?> parentType,
+            ImmutableSet<? extends Property> properties) {
+        FieldVisitor fv = cw.visitField(ACC_PRIVATE, RETAINED_FIELD, "Z", null, null);
+        fv.visitEnd();
+        fv = cw.visitField(ACC_PRIVATE, POOLED_FIELD, "Z", null, null);
+        fv.visitEnd();
+
+        // reset(Map)
+        {
+            MethodVisitor mv =
+                    cw.visitMethod(ACC_PUBLIC, "reset", "(Ljava/util/Map;)V", "(Ljava/util/Map<Ljava/lang/String;Ljava/lang/Object;>;)V", null);
+            mv.visitCode();
+
+            // this.$retained = false
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitInsn(ICONST_0);
+            mv.visitFieldInsn(PUTFIELD, internalName, RETAINED_FIELD, "Z");
+
+            visitPropertyAssignments(mv, internalName, parentType, properties, true);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // retain()
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "retain", "()V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitInsn(ICONST_1);
+            mv.visitFieldInsn(PUTFIELD, internalName, RETAINED_FIELD, "Z");
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // isRetained()
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "isRetained", "()Z", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, internalName, RETAINED_FIELD, "Z");
+            mv.visitInsn(IRETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // setPooled(boolean)
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "setPooled", "(Z)V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ILOAD, 1);
+            mv.visitFieldInsn(PUTFIELD, internalName, POOLED_FIELD, "Z");
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // isPooled()
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "isPooled", "()Z", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, internalName, POOLED_FIELD, "Z");
+            mv.visitInsn(IRETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+    }
+
     /**
      * Create the factory for an event class.
      *
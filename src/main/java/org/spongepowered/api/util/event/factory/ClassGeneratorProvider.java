@@ -26,15 +26,31 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.base.Optional;
+import com.google.common.io.Files;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import javax.annotation.Nullable;
+
 /**
  * Creates event implementations by generating the necessary event class
  * and event factory at runtime.
+ *
+ * <p>Event classes can also be generated ahead of time by setting an
+ * {@link LocalClassLoader#setOutputDirectory(File) output directory}, and
+ * later be loaded from the class path with {@link #getPregenerated(Class)}
+ * instead of being generated again.</p>
  */
 public class ClassGeneratorProvider implements FactoryProvider {
 
     private final LocalClassLoader classLoader = new LocalClassLoader(ClassGeneratorProvider.class.getClassLoader());
     private final ClassGenerator builder = new ClassGenerator();
     private final String targetPackage;
+    private volatile boolean usePregeneratedClasses = true;
 
     /**
      * Create a new instance.
@@ -53,9 +69,38 @@ public NullPolicy getNullPolicy() {
 
     @Override
     public void setNullPolicy(NullPolicy nullPolicy) {
+        if (nullPolicy != this.builder.getNullPolicy()) {
+            // Pregenerated classes were built with the default policy
+            this.usePregeneratedClasses = false;
+        }
         this.builder.setNullPolicy(nullPolicy);
     }
 
+    /**
+     * Get whether event factories that were generated ahead of time and are
+     * available on the class path are used instead of generating them.
+     *
+     * @return Whether pregenerated classes are used
+     */
+    public boolean isUsingPregeneratedClasses() {
+        return this.usePregeneratedClasses;
+    }
+
+    /**
+     * Set whether event factories that were generated ahead of time and are
+     * available on the class path are used instead of generating them.
+     *
+     * <p>This should be disabled when the generated classes would differ
+     * from the pregenerated ones, for example because the event factory
+     * plugins have been changed. Changing the null policy disables them
+     * automatically.</p>
+     *
+     * @param usePregeneratedClasses Whether pregenerated classes are used
+     */
+    public void setUsePregeneratedClasses(boolean usePregeneratedClasses) {
+        this.usePregeneratedClasses = usePregeneratedClasses;
+    }
+
     /**
      * Get the canonical name used for a generated event class.
      *
@@ -76,8 +121,58 @@ public <T> EventFactory<T> create(final Class<T> type, Class<?> parentType) {
         Class<?> eventClass = this.classLoader.defineClass(eventName, this.builder.createClass(type, eventName, parentType));
         Class<?> factoryClass = this.classLoader.defineClass(factoryName, this.builder.createFactory(eventClass, factoryName));
 
+        return (EventFactory<T>) newFactory(factoryClass);
+    }
+
+    /**
+     * Creates a factory for the given event type whose events implement
+     * {@link ResettableEvent}, so that they can be reused with an
+     * {@link EventPool}.
+     *
+     * @param type The type to create the event factory for
+     * @param parentType The parent type of the generated event class
+     * @param <T> The type of the event
+     * @return The factory
+     */
+    @SuppressWarnings("unchecked")
+    public <T> EventFactory<T> createResettable(final Class<T> type, Class<?> parentType) {
+        String eventName = getClassName(type, "Resettable");
+        String factoryName = getClassName(type, "ResettableFactory");
+
+        Class<?> eventClass = this.classLoader.defineClass(eventName, this.builder.createClass(type, eventName, parentType, true));
+        Class<?> factoryClass = this.classLoader.defineClass(factoryName, this.builder.createFactory(eventClass, factoryName));
+
+        return (EventFactory<T>) newFactory(factoryClass);
+    }
+
+    /**
+     * Gets the event factory for the given type if it was generated ahead of
+     * time and is available on the class path.
+     *
+     * @param type The type to get the event factory for
+     * @param <T> The type of the event
+     * @return The pregenerated factory, or {@link Optional#absent()} if
+     *         there is none or pregenerated classes are disabled
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<EventFactory<T>> getPregenerated(Class<T> type) {
+        checkNotNull(type, "type");
+        if (!this.usePregeneratedClasses) {
+            return Optional.absent();
+        }
+
+        Class<?> factoryClass;
+        try {
+            factoryClass = Class.forName(getClassName(type, "Factory"), true, this.classLoader.getParent());
+        } catch (ClassNotFoundException e) {
+            return Optional.absent();
+        }
+        return Optional.of((EventFactory<T>) newFactory(factoryClass));
+    }
+
+    private static EventFactory<?> newFactory(Class<?> factoryClass) {
         try {
-            return (EventFactory<T>) factoryClass.newInstance();
+            return (EventFactory<?>) factoryClass.newInstance();
         } catch (InstantiationException e) {
             throw new RuntimeException("Failed to create event factory", e);
         } catch (IllegalAccessException e) {
@@ -96,14 +191,65 @@ public LocalClassLoader getClassLoader() {
 
     /**
      * Class loader to use to call {@link #defineClass(String, byte[])}.
+     *
+     * <p>Where supported by the runtime (Java 7 and later), this class
+     * loader is registered as parallel capable, so that multiple threads
+     * can generate and define event classes at the same time.</p>
      */
     public static class LocalClassLoader extends ClassLoader {
 
+        static {
+            // ClassLoader.registerAsParallelCapable() does not exist in Java 6,
+            // so it has to be looked up reflectively
+            try {
+                Method register = ClassLoader.class.getDeclaredMethod("registerAsParallelCapable");
+                register.setAccessible(true);
+                register.invoke(null);
+            } catch (NoSuchMethodException ignored) {
+                // Java 6, defining classes is serialized by the JVM
+            } catch (Exception e) {
+                LoggerFactory.getLogger(LocalClassLoader.class).warn("Failed to register the class loader as parallel capable", e);
+            }
+        }
+
+        @Nullable private volatile File outputDirectory;
+
         public LocalClassLoader(ClassLoader parent) {
             super(parent);
         }
 
+        /**
+         * Gets the directory every defined class is also written to.
+         *
+         * @return The output directory, or null if classes are not written
+         */
+        @Nullable
+        public File getOutputDirectory() {
+            return this.outputDirectory;
+        }
+
+        /**
+         * Sets a directory every defined class should also be written to,
+         * in the standard class path layout. This is used to generate
+         * classes ahead of time.
+         *
+         * @param outputDirectory The output directory, or null to not write classes
+         */
+        public void setOutputDirectory(@Nullable File outputDirectory) {
+            this.outputDirectory = outputDirectory;
+        }
+
         public Class<?> defineClass(String name, byte[] b) {
+            File outputDirectory = this.outputDirectory;
+            if (outputDirectory != null) {
+                File file = new File(outputDirectory, name.replace('.', File.separatorChar) + ".class");
+                try {
+                    Files.createParentDirs(file);
+                    Files.write(b, file);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to write generated class " + name, e);
+                }
+            }
             return defineClass(name, b, 0, b.length);
         }
     }
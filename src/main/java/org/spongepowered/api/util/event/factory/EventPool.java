@@ -0,0 +1,134 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.factory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.event.Event;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+/**
+ * A pool of reusable event instances, to avoid allocating a new event for
+ * every occurrence of a frequently fired event.
+ *
+ * <p>Pooled instances are confined to the thread that acquired them:
+ * every thread has its own pool, so no synchronization is required. An
+ * event is acquired with {@link #acquire(Map)}, posted, and then handed
+ * back with {@link #release(Object)} once it is no longer used.</p>
+ *
+ * <p>Event handlers that keep a reference to an event after they have
+ * returned must {@link ResettableEvent#retain() retain} it. Retained
+ * events are never reused.</p>
+ *
+ * @param <E> The type of event
+ */
+public final class EventPool<E> {
+
+    private final EventFactory<E> factory;
+    private final int maxSize;
+    private final ThreadLocal<Deque<E>> pool = new ThreadLocal<Deque<E>>() {
+        @Override
+        protected Deque<E> initialValue() {
+            return new ArrayDeque<E>();
+        }
+    };
+
+    /**
+     * Create a new pool.
+     *
+     * @param factory The factory creating new events, which must implement
+     *        {@link ResettableEvent}
+     * @param maxSize The maximum number of released events kept per thread
+     */
+    public EventPool(EventFactory<E> factory, int maxSize) {
+        checkNotNull(factory, "factory");
+        checkArgument(maxSize >= 0, "maxSize must not be negative");
+        this.factory = factory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the maximum number of released events kept per thread.
+     *
+     * @return The maximum size
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Gets an event with the given property values, either by resetting a
+     * previously released event or by creating a new one.
+     *
+     * @param values The map of property names to values
+     * @return The event
+     */
+    public E acquire(Map<String, Object> values) {
+        checkNotNull(values, "values");
+        E event = this.pool.get().pollFirst();
+        if (event == null) {
+            return this.factory.apply(values);
+        }
+        ResettableEvent resettable = (ResettableEvent) event;
+        resettable.setPooled(false);
+        resettable.reset(values);
+        return event;
+    }
+
+    /**
+     * Hands an event back to the pool of the current thread, so that it can
+     * be reused by a later call to {@link #acquire(Map)}.
+     *
+     * <p>Retained events are not reused, and neither are events once the
+     * pool is full.</p>
+     *
+     * @param event The event, which must not be used after this call
+     * @throws IllegalStateException If the event has already been released
+     *         and not acquired again since
+     */
+    public void release(E event) {
+        checkNotNull(event, "event");
+        checkArgument(event instanceof ResettableEvent, "event was not created by a resettable factory");
+        ResettableEvent resettable = (ResettableEvent) event;
+        checkState(!resettable.isPooled(), "event has already been released");
+        if (resettable.isRetained()) {
+            return;
+        }
+        Deque<E> deque = this.pool.get();
+        if (deque.size() < this.maxSize) {
+            if (event instanceof Event) {
+                ((Event) event).getCallbacks().clear();
+            }
+            resettable.setPooled(true);
+            deque.offerFirst(event);
+        }
+    }
+
+}
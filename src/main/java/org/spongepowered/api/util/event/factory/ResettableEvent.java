@@ -0,0 +1,83 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.factory;
+
+import java.util.Map;
+
+/**
+ * An event implementation whose instances can be reused for several
+ * events, to avoid allocating a new instance for every occurrence of a
+ * frequently fired event.
+ *
+ * <p>Classes implementing this interface are generated by
+ * {@link ClassGenerator#createClass(Class, String, Class, boolean)}.</p>
+ *
+ * @see EventPool
+ */
+public interface ResettableEvent {
+
+    /**
+     * Resets all properties of this instance to the given values, as if
+     * it had been newly created with them.
+     *
+     * <p>Properties that are not in the map are reset to their default
+     * value. This also clears the {@link #isRetained() retained} flag.</p>
+     *
+     * @param values The map of property names to values, which is emptied
+     * @throws NullPointerException If a required property is missing
+     * @throws IllegalArgumentException If some values are not used
+     */
+    void reset(Map<String, Object> values);
+
+    /**
+     * Marks this instance as retained, so that it is not reused once it
+     * has been released. Event handlers that keep a reference to an event
+     * after they have returned must call this method.
+     */
+    void retain();
+
+    /**
+     * Gets whether this instance has been {@link #retain() retained}.
+     *
+     * @return Whether this instance is retained
+     */
+    boolean isRetained();
+
+    /**
+     * Sets whether this instance is currently held by an {@link EventPool},
+     * waiting to be reused.
+     *
+     * @param pooled Whether this instance is pooled
+     */
+    void setPooled(boolean pooled);
+
+    /**
+     * Gets whether this instance is currently held by an {@link EventPool}.
+     *
+     * @return Whether this instance is pooled
+     */
+    boolean isPooled();
+
+}
@@ -35,12 +35,12 @@
 import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
 
 import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.objectweb.asm.AnnotationVisitor;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
@@ -62,6 +62,8 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * An event factory plugin to modify the return type of an accessor
@@ -71,21 +73,10 @@ public class AccessorModifierEventFactoryPlugin implements EventFactoryPlugin {
 
     private static final PropertySearchStrategy propertySearch = new AccessorFirstStrategy();
 
-    private final LoadingCache<Class<?>, Class<?>> superclasses = CacheBuilder.newBuilder()
-            .build(
-                    new CacheLoader<Class<?>, Class<?>>() {
-                        @Override
-                        public Class<?> load(Class<?> type) {
-                            return generateSuperclass(type);
-                        }
-                    });
-
+    private final Cache<Class<?>, Class<?>> superclasses = CacheBuilder.newBuilder().build();
 
     private final String targetPackage;
 
-    private ClassGeneratorProvider.LocalClassLoader classLoader;
-    private Class<?> superClass;
-
     public AccessorModifierEventFactoryPlugin(String targetPackage) {
         this.targetPackage = targetPackage;
     }
@@ -96,7 +87,7 @@ private boolean canGenerate(Class<?> eventClass) {
         return !pairs.isEmpty();
     }
 
-    private Class<?> generateSuperclass(Class<?> eventClass) {
+    private Class<?> generateSuperclass(Class<?> eventClass, Class<?> superClass, ClassGeneratorProvider.LocalClassLoader classLoader) {
         // MAGIC
         String name = this.targetPackage + "." + "Abstract" + eventClass.getSimpleName();
         String internalName = name.replace('.', '/');
@@ -104,7 +95,7 @@ private Class<?> generateSuperclass(Class<?> eventClass) {
         final ImmutableSet<? extends Property> properties = propertySearch.findProperties(eventClass);
         Collection<MethodPair> pairs = this.getLinkedFields(properties);
         if (pairs.isEmpty()) {
-            return this.superClass;
+            return superClass;
         }
 
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
@@ -157,7 +148,7 @@ private Class<?> generateSuperclass(Class<?> eventClass) {
             mv.visitEnd();
         }
         cw.visitEnd();
-        return this.classLoader.defineClass(name, cw.toByteArray());
+        return classLoader.defineClass(name, cw.toByteArray());
     }
 
     private Collection<MethodPair> getLinkedFields(Set<? extends Property> properties) {
@@ -201,10 +192,21 @@ private Collection<MethodPair> getLinkedFields(Set<? extends Property> propertie
     }
 
     @Override
-    public Class<?> resolveSuperClassFor(Class<?> eventClass, Class<?> superClass, ClassGeneratorProvider.LocalClassLoader classLoader) {
-        this.classLoader = classLoader;
-        this.superClass = superClass;
-        return this.canGenerate(eventClass) ? this.superclasses.getUnchecked(eventClass) : null;
+    public Class<?> resolveSuperClassFor(final Class<?> eventClass, final Class<?> superClass,
+            final ClassGeneratorProvider.LocalClassLoader classLoader) {
+        if (!this.canGenerate(eventClass)) {
+            return null;
+        }
+        try {
+            return this.superclasses.get(eventClass, new Callable<Class<?>>() {
+                @Override
+                public Class<?> call() {
+                    return generateSuperclass(eventClass, superClass, classLoader);
+                }
+            });
+        } catch (ExecutionException e) {
+            throw new UncheckedExecutionException(e.getCause());
+        }
     }
 
     private static final class MethodPair {
@@ -27,11 +27,14 @@
 import com.google.common.base.Predicate;
 import org.spongepowered.api.event.AbstractEvent;
 import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.block.BlockPositionPredicate;
 import org.spongepowered.api.event.block.BulkBlockEvent;
+import org.spongepowered.api.event.block.PackedBlockList;
 import org.spongepowered.api.util.event.callback.CallbackList;
 import org.spongepowered.api.world.Location;
 
 import java.util.Iterator;
+import java.util.List;
 
 public abstract class AbstractBulkBlockEvent extends AbstractEvent implements BulkBlockEvent {
 
@@ -47,4 +50,22 @@ public void filter(Predicate<Location> predicate) {
         }
     }
 
+    @Override
+    public void filter(BlockPositionPredicate predicate) {
+        if (this instanceof Cancellable) {
+            List<Location> blocks = this.getBlocks();
+            if (blocks instanceof PackedBlockList) {
+                ((PackedBlockList) blocks).filter(predicate);
+                return;
+            }
+            Iterator<Location> iterator = blocks.iterator();
+            while (iterator.hasNext()) {
+                Location location = iterator.next();
+                if (!predicate.apply(location.getExtent(), location.getBlockX(), location.getBlockY(), location.getBlockZ())) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
 }
@@ -0,0 +1,119 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.superclasses;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.AbstractEvent;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.entity.BulkEntityEvent;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+public abstract class AbstractBulkEntityEvent extends AbstractEvent implements BulkEntityEvent {
+
+    /**
+     * The minimum number of entities tested by a single task.
+     */
+    private static final int MIN_PARTITION_SIZE = 256;
+
+    @Override
+    public void filter(Predicate<Entity> predicate) {
+        if (this instanceof Cancellable) {
+            Iterator<Entity> iterator = this.getEntities().iterator();
+            while (iterator.hasNext()) {
+                if (!predicate.apply(iterator.next())) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void filter(final Predicate<Entity> predicate, Executor executor) {
+        checkNotNull(predicate, "predicate");
+        checkNotNull(executor, "executor");
+        if (!(this instanceof Cancellable)) {
+            return;
+        }
+
+        List<Entity> entities = this.getEntities();
+        final Entity[] snapshot = entities.toArray(new Entity[entities.size()]);
+        final boolean[] keep = new boolean[snapshot.length];
+
+        int partitions = Math.min(Runtime.getRuntime().availableProcessors(),
+                (snapshot.length + MIN_PARTITION_SIZE - 1) / MIN_PARTITION_SIZE);
+        int partitionSize = partitions == 0 ? 0 : (snapshot.length + partitions - 1) / partitions;
+
+        // The first partition is tested on the calling thread, the others on the executor
+        List<ListenableFuture<Void>> futures = Lists.newArrayListWithCapacity(Math.max(partitions - 1, 0));
+        for (int from = partitionSize; from < snapshot.length; from += partitionSize) {
+            final int start = from;
+            final int end = Math.min(from + partitionSize, snapshot.length);
+            ListenableFutureTask<Void> task = ListenableFutureTask.create(new Runnable() {
+                @Override
+                public void run() {
+                    test(predicate, snapshot, keep, start, end);
+                }
+            }, null);
+            executor.execute(task);
+            futures.add(task);
+        }
+        test(predicate, snapshot, keep, 0, Math.min(partitionSize, snapshot.length));
+
+        try {
+            Uninterruptibles.getUninterruptibly(Futures.allAsList(futures));
+        } catch (ExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        }
+
+        // Remove on the calling thread, so the remaining entities keep their order
+        Iterator<Entity> iterator = entities.iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            iterator.next();
+            if (!keep[i]) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static void test(Predicate<Entity> predicate, Entity[] entities, boolean[] keep, int start, int end) {
+        for (int i = start; i < end; i++) {
+            keep[i] = predicate.apply(entities[i]);
+        }
+    }
+
+}
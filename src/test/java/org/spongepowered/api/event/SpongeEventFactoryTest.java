@@ -26,17 +26,26 @@
 
 import static org.mockito.Mockito.mock;
 
+import com.google.common.collect.Maps;
 import org.junit.Test;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
+import org.spongepowered.api.Game;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.data.DataManipulator;
+import org.spongepowered.api.entity.player.Player;
+import org.spongepowered.api.event.entity.player.PlayerChatEvent;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.event.callback.EventCallback;
 import org.spongepowered.api.util.event.factory.EventFactory;
+import org.spongepowered.api.util.event.factory.EventPool;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.extent.Extent;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.InvocationTargetException;
@@ -44,6 +53,10 @@
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public class SpongeEventFactoryTest {
 
@@ -129,6 +142,49 @@ public void testCreate() throws InvocationTargetException, IllegalAccessExceptio
         }
     }
 
+    @Test
+    public void testWarmUp() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            SpongeEventFactory.warmUp(EventClassPregenerator.getEventTypes(), executor).get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdown();
+        }
+
+        for (Class<?> type : EventClassPregenerator.getEventTypes()) {
+            assertNotNull(SpongeEventFactory.getFactory(type));
+        }
+    }
+
+    @Test
+    public void testEventPool() throws Exception {
+        EventPool<PlayerChatEvent> pool = SpongeEventFactory.newEventPool(PlayerChatEvent.class, 4);
+        Player player = mock(Player.class);
+        Text message = mock(Text.class);
+
+        PlayerChatEvent first = pool.acquire(createChatValues(player, message));
+        first.setCancelled(true);
+        first.getCallbacks().add(mock(EventCallback.class));
+        pool.release(first);
+
+        PlayerChatEvent second = pool.acquire(createChatValues(player, message));
+        assertSame(first, second);
+        assertFalse(second.isCancelled());
+        assertTrue(second.getCallbacks().isEmpty());
+        assertSame(message, second.getMessage());
+    }
+
+    private static Map<String, Object> createChatValues(Player player, Text message) {
+        Map<String, Object> values = Maps.newHashMap();
+        values.put("game", mock(Game.class));
+        values.put("entity", player);
+        values.put("source", player);
+        values.put("message", message);
+        values.put("newMessage", message);
+        values.put("user", player);
+        return values;
+    }
+
     private Object mockParam(final Class<?> paramType) {
         if (paramType == byte.class) {
             return (byte) 0;
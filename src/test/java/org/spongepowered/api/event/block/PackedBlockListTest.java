@@ -0,0 +1,137 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.block;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.Iterator;
+import java.util.List;
+
+public class PackedBlockListTest {
+
+    private final Extent first = mock(Extent.class);
+    private final Extent second = mock(Extent.class);
+
+    @Test
+    public void testPacking() {
+        int[][] positions = {{0, 0, 0}, {-1, -1, -1}, {PackedBlockList.MIN_XZ, PackedBlockList.MIN_Y, PackedBlockList.MIN_XZ},
+                {PackedBlockList.MAX_XZ, PackedBlockList.MAX_Y, PackedBlockList.MAX_XZ}, {12345, 64, -54321}};
+        for (int[] position : positions) {
+            long packed = PackedBlockList.pack(position[0], position[1], position[2]);
+            assertEquals(position[0], PackedBlockList.unpackX(packed));
+            assertEquals(position[1], PackedBlockList.unpackY(packed));
+            assertEquals(position[2], PackedBlockList.unpackZ(packed));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPackingOutOfRange() {
+        PackedBlockList.pack(0, PackedBlockList.MAX_Y + 1, 0);
+    }
+
+    @Test
+    public void testListAccess() {
+        PackedBlockList list = createList();
+
+        assertEquals(4, list.size());
+        assertEquals(ImmutableList.of(this.first, this.second), list.getExtents());
+        assertSame(this.first, list.get(1).getExtent());
+        assertEquals(2, list.get(1).getBlockX());
+        assertSame(this.second, list.get(2).getExtent());
+        assertEquals(-3, list.get(3).getBlockZ());
+    }
+
+    @Test
+    public void testRemoval() {
+        PackedBlockList list = createList();
+        list.remove(1);
+        Iterator<Location> iterator = list.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(2, list.size());
+        assertEquals(1, list.get(0).getBlockX());
+        assertEquals(4, list.get(1).getBlockX());
+
+        list.clear();
+        assertEquals(0, list.size());
+        assertFalse(list.iterator().hasNext());
+    }
+
+    @Test
+    public void testFilter() {
+        PackedBlockList list = createList();
+        final List<Integer> tested = Lists.newArrayList();
+        list.filter(new BlockPositionPredicate() {
+            @Override
+            public boolean apply(Extent extent, int x, int y, int z) {
+                tested.add(x);
+                return extent == PackedBlockListTest.this.second;
+            }
+        });
+
+        assertEquals(ImmutableList.of(1, 2, 3, 4), tested);
+        assertEquals(2, list.size());
+        assertEquals(3, list.get(0).getBlockX());
+    }
+
+    @Test
+    public void testEventFilter() {
+        PackedBlockList list = createList();
+        FluidSpreadEvent event = SpongeEventFactory.createFluidSpread(mock(Game.class), new Cause(null, "test", null), list);
+        event.filter(new BlockPositionPredicate() {
+            @Override
+            public boolean apply(Extent extent, int x, int y, int z) {
+                return x % 2 == 0;
+            }
+        });
+
+        assertSame(list, event.getBlocks());
+        assertEquals(2, list.size());
+    }
+
+    private PackedBlockList createList() {
+        return PackedBlockList.builder()
+                .add(this.first, 1, 1, 1)
+                .add(this.second, 3, 3, 3)
+                .add(new Location(this.first, 2, 2, 2))
+                .add(this.second, 4, 4, -3)
+                .build();
+    }
+
+}
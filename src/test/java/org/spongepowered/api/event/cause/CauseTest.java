@@ -0,0 +1,107 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.cause;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.List;
+
+public class CauseTest {
+
+    @Test
+    public void testIndexedAccess() {
+        Cause cause = new Cause(null, "root", null).with(1).with("last");
+
+        assertEquals(3, cause.size());
+        assertEquals("last", cause.get(0));
+        assertEquals(1, cause.get(1));
+        assertEquals("root", cause.get(2));
+        assertEquals("root", cause.getRootCause());
+        assertEquals(1, cause.getParent().get().getCause());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexOutOfBounds() {
+        new Cause(null, "root", null).get(1);
+    }
+
+    @Test
+    public void testFirstAndAll() {
+        Cause cause = new Cause(null, "root", null).with(1).with("last");
+
+        assertEquals("last", cause.first(String.class).get());
+        assertEquals(1, (int) cause.first(Integer.class).get());
+        assertFalse(cause.first(Double.class).isPresent());
+        assertEquals(ImmutableList.of("last", "root"), cause.all(String.class));
+        assertSame(cause.all(String.class), cause.all(String.class));
+    }
+
+    @Test
+    public void testLookupsBounded() {
+        Cause cause = new Cause(null, "root", null).with(1);
+        List<String> strings = cause.all(String.class);
+        assertSame(strings, cause.all(String.class));
+        for (Class<?> type : new Class<?>[] {Integer.class, Number.class, Object.class, CharSequence.class}) {
+            cause.all(type);
+        }
+
+        assertNotSame(strings, cause.all(String.class));
+        assertEquals(strings, cause.all(String.class));
+        assertSame(cause.getParent(), cause.getParent());
+    }
+
+    @Test
+    public void testBranches() {
+        Cause parent = new Cause(null, "root", null).with("parent");
+        Cause first = parent.with("first");
+        Cause second = parent.with("second");
+
+        assertEquals("first", first.get(0));
+        assertEquals("second", second.get(0));
+        assertEquals(2, parent.size());
+        assertEquals(ImmutableList.of("parent", "root"), parent.all(String.class));
+        assertEquals(ImmutableList.of("second", "parent", "root"), second.all(String.class));
+    }
+
+    @Test
+    public void testGrowth() {
+        Cause cause = new Cause(null, 0, null);
+        for (int i = 1; i < 100; i++) {
+            cause = cause.with(i);
+        }
+
+        assertEquals(100, cause.size());
+        assertEquals(99, cause.get(0));
+        assertEquals(0, cause.getRootCause());
+        assertEquals(100, cause.all(Integer.class).size());
+    }
+
+}
@@ -0,0 +1,424 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.ListenableFuture;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.player.Player;
+import org.spongepowered.api.event.AbstractEvent;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventHandler;
+import org.spongepowered.api.event.Filter;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.Subscribe;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.CauseTracked;
+import org.spongepowered.api.event.entity.EntityEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.api.util.Tristate;
+import org.spongepowered.api.world.World;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+public class SimpleEventManagerTest {
+
+    private static final PluginManager manager = Mockito.mock(PluginManager.class);
+    private static final Object testPlugin = new Object();
+    private static final PluginContainer testPluginContainer = Mockito.mock(PluginContainer.class);
+
+    {
+        Mockito.when(testPluginContainer.getId()).thenReturn("TestPlugin");
+        Mockito.when(manager.fromInstance(Mockito.any())).thenReturn(Optional.<PluginContainer>absent());
+        Mockito.when(manager.fromInstance(testPlugin)).thenReturn(Optional.of(testPluginContainer));
+    }
+
+    @Test
+    public void testPostToSubscribedMethods() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        TestListener listener = new TestListener();
+        eventManager.register(testPlugin, listener);
+
+        assertFalse(eventManager.post(new TestEvent()));
+        assertEquals(1, listener.received.size());
+
+        eventManager.unregister(listener);
+        eventManager.post(new TestEvent());
+        assertEquals(1, listener.received.size());
+    }
+
+    @Test
+    public void testHandlersCalledInOrder() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        final List<Order> called = new ArrayList<Order>();
+        for (final Order order : new Order[]{Order.POST, Order.PRE, Order.LATE, Order.DEFAULT, Order.FIRST}) {
+            eventManager.register(testPlugin, TestEvent.class, order, new EventHandler<TestEvent>() {
+                @Override
+                public void handle(TestEvent event) {
+                    called.add(order);
+                }
+            });
+        }
+
+        eventManager.post(new TestEvent());
+        assertEquals(5, called.size());
+        for (int i = 1; i < called.size(); i++) {
+            assertTrue(called.get(i - 1).compareTo(called.get(i)) < 0);
+        }
+    }
+
+    @Test
+    public void testSupertypeHandlersReceiveSubtypes() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        final List<Event> received = new ArrayList<Event>();
+        eventManager.register(testPlugin, Event.class, new EventHandler<Event>() {
+            @Override
+            public void handle(Event event) {
+                received.add(event);
+            }
+        });
+
+        eventManager.post(new TestEvent());
+        eventManager.post(new TestCancellableEvent());
+        assertEquals(2, received.size());
+    }
+
+    @Test
+    public void testRegisterAfterPost() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        final List<Event> received = new ArrayList<Event>();
+        EventHandler<Event> handler = new EventHandler<Event>() {
+            @Override
+            public void handle(Event event) {
+                received.add(event);
+            }
+        };
+
+        eventManager.post(new TestCancellableEvent());
+        eventManager.register(testPlugin, TestEvent.class, handler);
+        eventManager.post(new TestCancellableEvent());
+        assertEquals(1, received.size());
+
+        eventManager.unregister(handler);
+        eventManager.post(new TestCancellableEvent());
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    public void testHasListeners() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        assertFalse(eventManager.hasListeners(TestEvent.class));
+
+        TestListener listener = new TestListener();
+        eventManager.register(testPlugin, listener);
+        assertTrue(eventManager.hasListeners(TestEvent.class));
+        assertTrue(eventManager.hasListeners(TestCancellableEvent.class));
+        assertFalse(eventManager.hasListeners(Event.class));
+
+        eventManager.unregister(listener);
+        assertFalse(eventManager.hasListeners(TestCancellableEvent.class));
+    }
+
+    @Test
+    public void testCancellation() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        TestListener listener = new TestListener();
+        eventManager.register(testPlugin, listener);
+
+        assertTrue(eventManager.post(new TestCancellableEvent()));
+        assertEquals(1, listener.cancelledSeen);
+    }
+
+    @Test
+    public void testUnregisterPlugin() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        TestListener listener = new TestListener();
+        eventManager.register(testPlugin, listener);
+        eventManager.post(new TestEvent());
+
+        eventManager.unregisterPlugin(testPlugin);
+        eventManager.post(new TestEvent());
+        assertEquals(1, listener.received.size());
+    }
+
+    @Test
+    public void testPostAll() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        final List<String> calls = new ArrayList<String>();
+        eventManager.register(testPlugin, TestEvent.class, Order.EARLY, new EventHandler<TestEvent>() {
+            @Override
+            public void handle(TestEvent event) {
+                calls.add("early");
+            }
+        });
+        eventManager.register(testPlugin, TestEvent.class, Order.LATE, new EventHandler<TestEvent>() {
+            @Override
+            public void handle(TestEvent event) {
+                calls.add("late");
+            }
+        });
+
+        eventManager.postAll(Arrays.asList(new TestEvent(), new TestEvent(), new TestCancellableEvent()));
+        assertEquals(Arrays.asList("early", "early", "late", "late", "early", "late"), calls);
+    }
+
+    @Test
+    public void testPostAsync() throws Exception {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        AsyncListener listener = new AsyncListener();
+        eventManager.register(testPlugin, listener);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ListenableFuture<Boolean> future = eventManager.postAsync(new TestCancellableEvent(), executor);
+            assertTrue(future.get(5, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList("sync", "async-first", "async-post"), listener.calls);
+            assertNotSame(Thread.currentThread(), listener.asyncThread);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testTimings() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        eventManager.register(testPlugin, new TestListener());
+
+        eventManager.post(new TestEvent());
+        for (HandlerTimings timings : eventManager.getTimings()) {
+            assertEquals(0, timings.getInvocations());
+        }
+
+        eventManager.setTimingsEnabled(true);
+        eventManager.post(new TestEvent());
+        eventManager.post(new TestEvent());
+        for (HandlerTimings timings : eventManager.getTimings()) {
+            assertEquals(timings.getEventClass() == TestEvent.class ? 2 : 0, timings.getInvocations());
+            assertTrue(timings.getMaxNanos() <= timings.getTotalNanos());
+        }
+
+        eventManager.resetTimings();
+        for (HandlerTimings timings : eventManager.getTimings()) {
+            assertEquals(0, timings.getInvocations());
+        }
+    }
+
+    @Test
+    public void testHandlerClassReused() throws Exception {
+        HandlerFactory factory = new HandlerFactory("org.spongepowered.api.service.event.handler");
+        EventHandler<Event> first = factory.create(new TestListener(), TestListener.class.getMethod("onEvent", TestEvent.class));
+        EventHandler<Event> second = factory.create(new TestListener(), TestListener.class.getMethod("onEvent", TestEvent.class));
+        assertSame(first.getClass(), second.getClass());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegisterRequiresPlugin() {
+        new SimpleEventManager(manager).register(new Object(), new TestListener());
+    }
+
+    @Test
+    public void testFilters() {
+        SimpleEventManager eventManager = new SimpleEventManager(manager);
+        FilterListener listener = new FilterListener();
+        eventManager.register(testPlugin, listener);
+
+        World world = Mockito.mock(World.class);
+        Mockito.when(world.getName()).thenReturn("world");
+        Player player = Mockito.mock(Player.class);
+        Mockito.when(player.getWorld()).thenReturn(world);
+        Entity entity = Mockito.mock(Entity.class);
+        Mockito.when(entity.getWorld()).thenReturn(world);
+
+        eventManager.post(new TestEvent());
+        eventManager.post(new TestEntityEvent(entity, null));
+        eventManager.post(new TestEntityEvent(player, new Cause(new Cause(null, player, null), entity, null)));
+        TestCancellableEvent cancelled = new TestCancellableEvent();
+        cancelled.setCancelled(true);
+        eventManager.post(cancelled);
+        eventManager.post(new TestCancellableEvent());
+
+        assertEquals(1, listener.players);
+        assertEquals(2, listener.inWorld);
+        assertEquals(1, listener.causedByPlayer);
+        assertEquals(1, listener.cancelled);
+        assertEquals(4, listener.notCancelled);
+    }
+
+    public static class TestEvent extends AbstractEvent {
+
+    }
+
+    public static class TestCancellableEvent extends TestEvent implements Cancellable {
+
+        private boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+
+    public static class TestEntityEvent extends TestEvent implements EntityEvent, CauseTracked {
+
+        private final Entity entity;
+        private final Optional<Cause> cause;
+
+        TestEntityEvent(Entity entity, @Nullable Cause cause) {
+            this.entity = entity;
+            this.cause = Optional.fromNullable(cause);
+        }
+
+        @Override
+        public Entity getEntity() {
+            return this.entity;
+        }
+
+        @Override
+        public Optional<Cause> getCause() {
+            return this.cause;
+        }
+
+        @Override
+        public Game getGame() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    public static class TestListener {
+
+        final List<Event> received = new ArrayList<Event>();
+        int cancelledSeen;
+
+        @Subscribe
+        public void onEvent(TestEvent event) {
+            this.received.add(event);
+        }
+
+        @Subscribe(order = Order.FIRST)
+        public void onCancellable(TestCancellableEvent event) {
+            this.received.add(event);
+            event.setCancelled(true);
+        }
+
+        @Subscribe(order = Order.POST, ignoreCancelled = false)
+        public void onCancelled(TestCancellableEvent event) {
+            if (event.isCancelled()) {
+                this.cancelledSeen++;
+            }
+        }
+
+        @Subscribe
+        public boolean onEventWithResult(TestEvent event) {
+            return true;
+        }
+    }
+
+    public static class AsyncListener {
+
+        final List<String> calls = Collections.synchronizedList(new ArrayList<String>());
+        volatile Thread asyncThread;
+
+        @Subscribe(order = Order.POST, async = true, ignoreCancelled = false)
+        public void onAsyncPost(TestCancellableEvent event) {
+            this.calls.add("async-post");
+        }
+
+        @Subscribe(order = Order.FIRST, async = true)
+        public void onAsyncFirst(TestCancellableEvent event) {
+            this.asyncThread = Thread.currentThread();
+            this.calls.add("async-first");
+            event.setCancelled(true);
+        }
+
+        @Subscribe(order = Order.LAST)
+        public void onSync(TestCancellableEvent event) {
+            this.calls.add("sync");
+        }
+    }
+
+    public static class FilterListener {
+
+        int players;
+        int inWorld;
+        int causedByPlayer;
+        int cancelled;
+        int notCancelled;
+
+        @Subscribe
+        @Filter(entity = Player.class)
+        public void onPlayer(TestEvent event) {
+            this.players++;
+        }
+
+        @Subscribe
+        @Filter(world = {"nether", "world"})
+        public void onWorld(TestEvent event) {
+            this.inWorld++;
+        }
+
+        @Subscribe
+        @Filter(causeRoot = Player.class)
+        public void onCausedByPlayer(TestEntityEvent event) {
+            this.causedByPlayer++;
+        }
+
+        @Subscribe(ignoreCancelled = false)
+        @Filter(cancelled = Tristate.TRUE)
+        public void onCancelled(TestCancellableEvent event) {
+            this.cancelled++;
+        }
+
+        @Subscribe(ignoreCancelled = false)
+        @Filter(cancelled = Tristate.FALSE)
+        public void onNotCancelled(TestEvent event) {
+            this.notCancelled++;
+        }
+    }
+
+}
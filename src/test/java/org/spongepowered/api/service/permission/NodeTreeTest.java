@@ -31,6 +31,7 @@
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 
 public class NodeTreeTest {
 
@@ -62,6 +63,18 @@ public void testWithValue() throws Exception {
         assertEquals(Tristate.TRUE, newTree.get("generate.thunderstorm.explosive"));
     }
 
+    @Test
+    public void testWithValueKeepsParentValues() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<String, Boolean>();
+        testPermissions.put("generate", true);
+        testPermissions.put("generate.thunderstorm", false);
+
+        NodeTree newTree = NodeTree.of(testPermissions).withValue("generate.thunderstorm.explosive", Tristate.TRUE);
+        assertEquals(Tristate.TRUE, newTree.get("generate"));
+        assertEquals(Tristate.FALSE, newTree.get("generate.thunderstorm"));
+        assertEquals(Tristate.TRUE, newTree.get("generate.thunderstorm.explosive"));
+    }
+
     @Test
     public void testWithAll() throws Exception {
         final Map<String, Boolean> testPermissions = new HashMap<String, Boolean>();
@@ -83,7 +96,9 @@ public void testWithAll() throws Exception {
         assertEquals(Tristate.TRUE, newTree.get("generate.sunset.red"));
 
         assertEquals(Tristate.FALSE, oldTree.get("generate.thunderstorm.explosive"));
-        assertEquals(Tristate.UNDEFINED, newTree.get("generate.thunderstorm.explosive"));
+        // Falls back to the value of 'generate', which is kept when its children change
+        assertEquals(Tristate.TRUE, newTree.get("generate.thunderstorm.explosive"));
+        assertEquals(Tristate.TRUE, newTree.get("generate"));
 
         assertEquals(Tristate.UNDEFINED, oldTree.get("something.new"));
         assertEquals(Tristate.FALSE, newTree.get("something.new"));
@@ -107,4 +122,108 @@ public void testCreateFromValues() throws Exception {
         assertEquals(Tristate.FALSE, nodes.get("generate.thunderstorm.explosive"));
         assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
     }
+
+    @Test
+    public void testCaseInsensitiveLookup() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<String, Boolean>();
+        testPermissions.put("Generate.Rainbow", true);
+        testPermissions.put("generate.SUNSET", false);
+
+        NodeTree nodes = NodeTree.of(testPermissions);
+
+        assertEquals(Tristate.TRUE, nodes.get("generate.rainbow"));
+        assertEquals(Tristate.TRUE, nodes.get("GENERATE.RAINBOW.double"));
+        assertEquals(Tristate.FALSE, nodes.get("generate.sunset."));
+        assertEquals(Tristate.UNDEFINED, nodes.get("generate.sun"));
+        assertEquals(Tristate.UNDEFINED, nodes.get(""));
+        assertEquals(Tristate.TRUE, nodes.withValue("GENERATE.Sunset", Tristate.TRUE).get("generate.sunset"));
+    }
+
+    @Test
+    public void testCompiledNodeLookup() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<String, Boolean>();
+        testPermissions.put("generate.rainbow", true);
+        testPermissions.put("generate.sunset", false);
+        testPermissions.put("generate", true);
+        testPermissions.put("generate.thunderstorm.explosive", false);
+
+        NodeTree nodes = NodeTree.of(testPermissions).withValue("generate.snow", Tristate.FALSE);
+
+        String[] lookups = {"generate.rainbow.double", "Generate.Sunset", "generate.thunderstorm", "generate.snow",
+            "generate.thunderstorm.explosive", "random.perm", "generate."};
+        for (String node : lookups) {
+            assertEquals(node, nodes.get(node), nodes.get(PermissionNode.of(node)));
+        }
+        assertEquals(PermissionNode.of("Generate.Rainbow"), PermissionNode.of("generate.rainbow"));
+    }
+
+    @Test
+    public void testBuilder() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<String, Boolean>();
+        testPermissions.put("generate.rainbow", true);
+        testPermissions.put("generate", true);
+
+        NodeTree oldTree = NodeTree.of(testPermissions);
+        NodeTree.Builder builder = oldTree.toBuilder()
+                .set("generate.rainbow", Tristate.FALSE)
+                .set("generate.rainbow.double", Tristate.TRUE)
+                .set("something.new", Tristate.FALSE);
+        NodeTree newTree = builder.build();
+        builder.set("generate.rainbow", Tristate.TRUE);
+        final NodeTree newerTree = builder.build();
+
+        assertEquals(testPermissions, oldTree.asMap());
+        assertEquals(Tristate.FALSE, newTree.get("generate.rainbow"));
+        assertEquals(Tristate.TRUE, newTree.get("generate.rainbow.double"));
+        assertEquals(Tristate.FALSE, newTree.get("something.new.child"));
+        assertEquals(Tristate.TRUE, newTree.get("generate"));
+        assertEquals(Tristate.TRUE, newerTree.get("generate.rainbow"));
+    }
+
+    @Test
+    public void testManySiblings() throws Exception {
+        final Map<String, Boolean> expected = new HashMap<String, Boolean>();
+        NodeTree tree = NodeTree.of(expected);
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            String node = "worldedit.command" + random.nextInt(500);
+            NodeTree oldTree = tree;
+            final Map<String, Boolean> oldExpected = new HashMap<String, Boolean>(expected);
+            if (random.nextInt(4) == 0) {
+                tree = tree.withValue(node, Tristate.UNDEFINED);
+                expected.remove(node);
+            } else {
+                boolean value = random.nextBoolean();
+                tree = tree.withValue(node, Tristate.fromBoolean(value));
+                expected.put(node, value);
+            }
+            assertEquals(oldExpected, oldTree.asMap());
+        }
+        assertEquals(expected, tree.asMap());
+        for (int i = 0; i < 500; i++) {
+            String node = "worldedit.command" + i;
+            Tristate value = expected.containsKey(node) ? Tristate.fromBoolean(expected.get(node)) : Tristate.UNDEFINED;
+            assertEquals(value, tree.get(node));
+            assertEquals(value, tree.get(PermissionNode.of(node)));
+        }
+    }
+
+    @Test
+    public void testHashCollisions() throws Exception {
+        // Both segments hash to the same value
+        final Map<String, Boolean> testPermissions = new HashMap<String, Boolean>();
+        testPermissions.put("collide.b_", true);
+        testPermissions.put("collide.a~", false);
+
+        NodeTree nodes = NodeTree.of(testPermissions);
+        assertEquals(Tristate.TRUE, nodes.get("collide.B_"));
+        assertEquals(Tristate.FALSE, nodes.get("collide.A~"));
+        assertEquals(Tristate.FALSE, nodes.get(PermissionNode.of("collide.a~")));
+
+        NodeTree newTree = nodes.withValue("collide.a~", Tristate.TRUE);
+        assertEquals(Tristate.TRUE, newTree.get("collide.a~"));
+        assertEquals(Tristate.TRUE, newTree.get("collide.b_"));
+        assertEquals(Tristate.FALSE, nodes.get("collide.a~"));
+        assertEquals(testPermissions, nodes.asMap());
+    }
 }
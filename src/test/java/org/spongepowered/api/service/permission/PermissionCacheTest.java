@@ -0,0 +1,154 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.service.permission.context.Context;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+public class PermissionCacheTest {
+
+    private static final Set<Context> GLOBAL = Collections.emptySet();
+
+    private final PermissionService service = Mockito.mock(PermissionService.class);
+    private final MemorySubjectData own = new MemorySubjectData(this.service);
+    private final MemorySubjectData parent = new MemorySubjectData(this.service);
+    private final MemorySubjectData unrelated = new MemorySubjectData(this.service);
+
+    private Tristate resolve(PermissionCache cache, String permission) {
+        Tristate value = cache.get(GLOBAL, permission);
+        if (value == null) {
+            PermissionCache.Resolution resolution = cache.newResolution();
+            resolution.dependOn(this.own);
+            value = this.own.getNodeTree(GLOBAL).get(permission);
+            if (value == Tristate.UNDEFINED) {
+                resolution.dependOn(this.parent);
+                value = this.parent.getNodeTree(GLOBAL).get(permission);
+            }
+            cache.put(GLOBAL, permission, value, resolution);
+        }
+        return value;
+    }
+
+    @Test
+    public void testInvalidatedByChainChanges() {
+        PermissionCache cache = new PermissionCache(16);
+        this.parent.setPermission(GLOBAL, "generate.rainbow", Tristate.TRUE);
+
+        assertEquals(Tristate.TRUE, resolve(cache, "generate.rainbow"));
+        assertEquals(Tristate.TRUE, cache.get(GLOBAL, "generate.rainbow"));
+
+        this.unrelated.setPermission(GLOBAL, "generate.rainbow", Tristate.FALSE);
+        assertEquals(Tristate.TRUE, cache.get(GLOBAL, "generate.rainbow"));
+
+        this.parent.setPermission(GLOBAL, "generate.rainbow", Tristate.FALSE);
+        assertNull(cache.get(GLOBAL, "generate.rainbow"));
+        assertEquals(Tristate.FALSE, resolve(cache, "generate.rainbow"));
+
+        this.own.setPermission(GLOBAL, "generate", Tristate.TRUE);
+        assertNull(cache.get(GLOBAL, "generate.rainbow"));
+        assertEquals(Tristate.TRUE, resolve(cache, "generate.rainbow"));
+
+        // Resolved from own data alone, so the parent no longer matters
+        this.parent.clearPermissions();
+        assertEquals(Tristate.TRUE, cache.get(GLOBAL, "generate.rainbow"));
+    }
+
+    @Test
+    public void testCompiledNodesAndContexts() {
+        PermissionCache cache = new PermissionCache(16);
+        PermissionNode node = PermissionNode.of("generate.rainbow");
+        Set<Context> world = Collections.singleton(new Context(Context.WORLD_KEY, "world"));
+        cache.put(GLOBAL, node, Tristate.TRUE, cache.newResolution());
+
+        assertEquals(Tristate.TRUE, cache.get(GLOBAL, node));
+        assertNull(cache.get(world, node));
+        assertNull(cache.get(GLOBAL, "generate.rainbow"));
+
+        cache.invalidateAll();
+        assertNull(cache.get(GLOBAL, node));
+    }
+
+    @Test
+    public void testInvalidatedByBulkChanges() {
+        PermissionCache cache = new PermissionCache(16);
+        assertEquals(Tristate.UNDEFINED, resolve(cache, "generate.rainbow"));
+
+        Map<String, Tristate> values = new HashMap<String, Tristate>();
+        values.put("generate.rainbow", Tristate.TRUE);
+        values.put("generate.sunset", Tristate.FALSE);
+        assertTrue(this.own.setPermissions(GLOBAL, values));
+        assertFalse(this.own.setPermissions(GLOBAL, values));
+
+        assertNull(cache.get(GLOBAL, "generate.rainbow"));
+        assertEquals(Tristate.TRUE, resolve(cache, "generate.rainbow"));
+        assertEquals(Tristate.FALSE, resolve(cache, "generate.sunset"));
+    }
+
+    @Test
+    public void testBulkChangesMatchSequentialChanges() {
+        MemorySubjectData sequential = new MemorySubjectData(this.service);
+        MemorySubjectData bulk = new MemorySubjectData(this.service);
+        sequential.setPermission(GLOBAL, "generate", Tristate.TRUE);
+        bulk.setPermission(GLOBAL, "generate", Tristate.TRUE);
+        long sequentialGeneration = sequential.getGeneration();
+        long bulkGeneration = bulk.getGeneration();
+
+        Map<String, Tristate> values = new LinkedHashMap<String, Tristate>();
+        values.put("generate", Tristate.UNDEFINED);
+        values.put("GENERATE", Tristate.TRUE);
+        values.put("generate.rainbow", Tristate.TRUE);
+        boolean sequentialChanged = false;
+        for (Map.Entry<String, Tristate> ent : values.entrySet()) {
+            sequentialChanged |= sequential.setPermission(GLOBAL, ent.getKey(), ent.getValue());
+        }
+
+        assertEquals(sequentialChanged, bulk.setPermissions(GLOBAL, values));
+        assertEquals(sequential.getGeneration() > sequentialGeneration, bulk.getGeneration() > bulkGeneration);
+        assertEquals(sequential.getNodeTree(GLOBAL).asMap(), bulk.getNodeTree(GLOBAL).asMap());
+    }
+
+    @Test
+    public void testNotInvalidatedByNoOpChanges() {
+        PermissionCache cache = new PermissionCache(16);
+        assertEquals(Tristate.UNDEFINED, resolve(cache, "generate.rainbow"));
+
+        assertFalse(this.own.setPermission(GLOBAL, "generate.rainbow", Tristate.UNDEFINED));
+        assertEquals(Tristate.UNDEFINED, cache.get(GLOBAL, "generate.rainbow"));
+    }
+
+}
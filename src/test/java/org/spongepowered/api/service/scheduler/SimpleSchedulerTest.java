@@ -0,0 +1,332 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SimpleSchedulerTest {
+
+    private static final PluginManager manager = Mockito.mock(PluginManager.class);
+    private static final Object testPlugin = new Object();
+    private static final PluginContainer testPluginContainer = Mockito.mock(PluginContainer.class);
+
+    {
+        Mockito.when(testPluginContainer.getId()).thenReturn("TestPlugin");
+        Mockito.when(manager.fromInstance(Mockito.any())).thenReturn(Optional.<PluginContainer>absent());
+        Mockito.when(manager.fromInstance(testPlugin)).thenReturn(Optional.of(testPluginContainer));
+    }
+
+    @Test
+    public void testSynchronousDelays() {
+        SimpleSynchronousScheduler scheduler = new SimpleSynchronousScheduler(manager);
+        Counter now = new Counter();
+        Counter later = new Counter();
+        Counter repeating = new Counter();
+        scheduler.runTask(testPlugin, now);
+        scheduler.runTaskAfter(testPlugin, later, 100);
+        scheduler.runRepeatingTaskAfter(testPlugin, repeating, 10, 5);
+
+        scheduler.tick();
+        assertEquals(1, now.count.get());
+        for (int i = 1; i < 99; i++) {
+            scheduler.tick();
+        }
+        assertEquals(1, now.count.get());
+        assertEquals(0, later.count.get());
+        assertEquals(10, repeating.count.get());
+
+        scheduler.tick();
+        assertEquals(1, later.count.get());
+        assertEquals(1, scheduler.getScheduledTasks().size());
+    }
+
+    @Test
+    public void testSynchronousCancel() {
+        SimpleSynchronousScheduler scheduler = new SimpleSynchronousScheduler(manager);
+        Counter counter = new Counter();
+        final Task task = scheduler.runRepeatingTask(testPlugin, counter, 2).get();
+        scheduler.tick();
+        scheduler.tick();
+        scheduler.tick();
+        assertEquals(2, counter.count.get());
+
+        assertTrue(task.cancel());
+        assertFalse(task.cancel());
+        for (int i = 0; i < 10; i++) {
+            scheduler.tick();
+        }
+        assertEquals(2, counter.count.get());
+        assertFalse(scheduler.getTaskById(task.getUniqueId()).isPresent());
+    }
+
+    @Test
+    public void testTickBudget() {
+        SimpleSynchronousScheduler scheduler = new SimpleSynchronousScheduler(manager);
+        scheduler.setTickBudget(1);
+        Counter counter = new Counter();
+        final Task first = scheduler.runTask(testPlugin, counter).get();
+        final Task second = scheduler.runTask(testPlugin, counter).get();
+        final Task third = scheduler.runTask(testPlugin, counter).get();
+        Task cancelled = scheduler.runTask(testPlugin, counter).get();
+
+        scheduler.tick();
+        assertEquals(1, counter.count.get());
+        assertTrue(cancelled.cancel());
+        scheduler.tick();
+        assertEquals(2, counter.count.get());
+        scheduler.tick();
+        scheduler.tick();
+        assertEquals(3, counter.count.get());
+
+        assertEquals(0, first.getDeferralCount());
+        assertEquals(1, second.getDeferralCount());
+        assertEquals(2, third.getDeferralCount());
+    }
+
+    @Test
+    public void testDeferredRepeatingTaskIsNotAnOverlap() {
+        SimpleSynchronousScheduler scheduler = new SimpleSynchronousScheduler(manager);
+        scheduler.setTickBudget(1);
+        scheduler.runTask(testPlugin, new Counter());
+        Counter counter = new Counter();
+        final Task repeating = scheduler.runRepeatingTask(testPlugin, counter, 1).get();
+
+        scheduler.tick();
+        assertEquals(0, counter.count.get());
+        scheduler.tick();
+        scheduler.tick();
+        assertEquals(2, counter.count.get());
+
+        assertEquals(1, repeating.getDeferralCount());
+        assertEquals(0, repeating.getStatistics().getOverlapSkipCount());
+    }
+
+    @Test
+    public void testStatistics() {
+        SimpleSynchronousScheduler scheduler = new SimpleSynchronousScheduler(manager);
+        final Task fast = scheduler.runRepeatingTask(testPlugin, new Counter(), 1).get();
+        Task slow = scheduler.runRepeatingTask(testPlugin, new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+        }, 1).get();
+        for (int i = 0; i < 5; i++) {
+            scheduler.tick();
+        }
+
+        TaskStatistics statistics = slow.getStatistics();
+        assertEquals(5, statistics.getRunCount());
+        assertTrue(statistics.getMaxRunNanos() >= TimeUnit.MILLISECONDS.toNanos(2));
+        assertTrue(statistics.getAverageRunNanos() <= statistics.getMaxRunNanos());
+        assertEquals(5, fast.getStatistics().getRunCount());
+        assertEquals(ImmutableList.of(slow, fast), scheduler.getTopTasksByTime(5));
+        assertEquals(ImmutableList.of(slow), scheduler.getTopTasksByTime(1));
+    }
+
+    @Test
+    public void testQueries() {
+        SimpleSynchronousScheduler scheduler = new SimpleSynchronousScheduler(manager);
+        Task first = scheduler.runTaskAfter(testPlugin, new Counter(), 10).get();
+        Task second = scheduler.runTaskAfter(testPlugin, new Counter(), 10).get();
+        second.setName("Cooldown");
+
+        assertTrue(first.getName().get().startsWith("TestPlugin-S-"));
+        assertTrue(first.isSynchronous());
+        assertEquals(10L, (long) first.getDelay().get());
+        assertFalse(first.getInterval().isPresent());
+        assertEquals(first, scheduler.getTaskById(first.getUniqueId()).get());
+        assertEquals(second.getUniqueId(), scheduler.getUuidOfTaskByName("Cooldown").get());
+        assertEquals(1, scheduler.getTasksByName("TestPlugin-S-.*").size());
+        assertEquals(2, scheduler.getTasksByName(".*").size());
+        assertEquals(1, scheduler.getTasksByName("Cool.*").size());
+        assertEquals(0, scheduler.getTasksByName("Cool").size());
+        assertEquals(2, scheduler.getScheduledTasks(testPlugin).size());
+        assertEquals(0, scheduler.getScheduledTasks(new Object()).size());
+
+        second.setName("Renamed");
+        assertFalse(scheduler.getUuidOfTaskByName("Cooldown").isPresent());
+        assertEquals(second.getUniqueId(), scheduler.getUuidOfTaskByName("Renamed").get());
+        assertTrue(first.cancel());
+        assertEquals(ImmutableList.of(second), scheduler.getScheduledTasks(testPlugin));
+        assertEquals(0, scheduler.getTasksByName("TestPlugin-S-.*").size());
+        assertFalse(scheduler.runTask(new Object(), new Counter()).isPresent());
+        assertFalse(scheduler.runTaskAfter(testPlugin, new Counter(), -1).isPresent());
+    }
+
+    @Test
+    public void testAsynchronous() throws InterruptedException {
+        SimpleAsynchronousScheduler scheduler = new SimpleAsynchronousScheduler(manager);
+        try {
+            final CountDownLatch latch = new CountDownLatch(3);
+            Runnable countDown = new Runnable() {
+
+                @Override
+                public void run() {
+                    latch.countDown();
+                }
+
+            };
+            scheduler.runTask(testPlugin, countDown);
+            scheduler.runTaskAfter(testPlugin, countDown, TimeUnit.MILLISECONDS, 50);
+            scheduler.runTaskAfter(testPlugin, countDown, TimeUnit.MILLISECONDS, 100);
+            Task cancelled = scheduler.runTaskAfter(testPlugin, countDown, TimeUnit.MILLISECONDS, 50).get();
+            assertFalse(cancelled.isSynchronous());
+            assertTrue(cancelled.cancel());
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertTrue(scheduler.getScheduledTasks().isEmpty());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void testPerPluginExecutorCap() throws InterruptedException {
+        TaskExecutorProvider provider = TaskExecutorProviders.perPlugin(2);
+        try {
+            Task task = Mockito.mock(Task.class);
+            Mockito.when(task.getOwner()).thenReturn(testPluginContainer);
+            final AtomicInteger running = new AtomicInteger();
+            final AtomicInteger maxRunning = new AtomicInteger();
+            final CountDownLatch done = new CountDownLatch(10);
+            for (int i = 0; i < 10; i++) {
+                provider.getExecutor(task).execute(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        int now = running.incrementAndGet();
+                        synchronized (maxRunning) {
+                            maxRunning.set(Math.max(maxRunning.get(), now));
+                        }
+                        try {
+                            Thread.sleep(10);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        running.decrementAndGet();
+                        done.countDown();
+                    }
+
+                });
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(2, maxRunning.get());
+        } finally {
+            provider.shutdown();
+        }
+    }
+
+    @Test
+    public void testCappedExecutorRejection() {
+        final List<Runnable> accepted = new ArrayList<Runnable>();
+        final AtomicBoolean rejecting = new AtomicBoolean();
+        Executor backing = new Executor() {
+
+            @Override
+            public void execute(Runnable command) {
+                if (rejecting.get()) {
+                    throw new RejectedExecutionException();
+                }
+                accepted.add(command);
+            }
+
+        };
+        CappedExecutor executor = new CappedExecutor(backing, 1);
+        Counter first = new Counter();
+        Counter second = new Counter();
+        Counter third = new Counter();
+        executor.execute(first);
+        executor.execute(second);
+        assertEquals(1, accepted.size());
+
+        // The queued command is kept instead of being lost or thrown here
+        rejecting.set(true);
+        accepted.remove(0).run();
+        assertEquals(1, first.count.get());
+
+        rejecting.set(false);
+        executor.execute(third);
+        accepted.remove(0).run();
+        accepted.remove(0).run();
+        assertEquals(1, second.count.get());
+        assertEquals(1, third.count.get());
+
+        rejecting.set(true);
+        try {
+            new CappedExecutor(backing, 1).execute(new Counter());
+            fail();
+        } catch (RejectedExecutionException expected) {
+            // Only the caller's own command is reported to it
+        }
+    }
+
+    @Test
+    public void testLiteralPrefix() {
+        assertEquals("Foo-A-", TaskRegistry.getLiteralPrefix("Foo-A-.*"));
+        assertEquals("Foo-A-", TaskRegistry.getLiteralPrefix("^Foo-A-\\d+"));
+        assertEquals("Fo", TaskRegistry.getLiteralPrefix("Foo?"));
+        assertEquals("Foo", TaskRegistry.getLiteralPrefix("Foo+"));
+        assertEquals("", TaskRegistry.getLiteralPrefix("Foo|Bar"));
+        assertEquals("", TaskRegistry.getLiteralPrefix("(?i)foo"));
+    }
+
+    private static final class Counter implements Runnable {
+
+        final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void run() {
+            this.count.incrementAndGet();
+        }
+
+    }
+
+}
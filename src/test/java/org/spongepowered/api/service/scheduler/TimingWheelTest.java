@@ -0,0 +1,110 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+public class TimingWheelTest {
+
+    @Test
+    public void testEntriesExpireOnTheirDeadline() {
+        TimingWheel<TestEntry> wheel = new TimingWheel<TestEntry>();
+        Random random = new Random(42);
+        List<TestEntry> entries = Lists.newArrayList();
+        for (int i = 0; i < 10000; i++) {
+            TestEntry entry = new TestEntry();
+            // Spread deadlines over every level of the wheel
+            wheel.schedule(entry, 1 + (random.nextInt(5) == 0 ? random.nextInt(300000) : random.nextInt(5000)));
+            entries.add(entry);
+        }
+        assertEquals(10000, wheel.size());
+
+        List<TestEntry> expired = Lists.newArrayList();
+        while (wheel.size() > 0) {
+            wheel.advance(expired);
+            for (TestEntry entry : expired) {
+                assertEquals(entry.getDeadline(), wheel.getCurrentTick());
+                entry.expiredAt = wheel.getCurrentTick();
+            }
+            expired.clear();
+        }
+        for (TestEntry entry : entries) {
+            assertEquals(entry.getDeadline(), entry.expiredAt);
+        }
+    }
+
+    @Test
+    public void testDistantDeadline() {
+        TimingWheel<TestEntry> wheel = new TimingWheel<TestEntry>();
+        TestEntry entry = new TestEntry();
+        long deadline = (1L << 31) + 17;
+        wheel.schedule(entry, deadline);
+
+        List<TestEntry> expired = Lists.newArrayList();
+        while (expired.isEmpty()) {
+            wheel.advance(expired);
+        }
+        assertEquals(deadline, wheel.getCurrentTick());
+    }
+
+    @Test
+    public void testCancel() {
+        TimingWheel<TestEntry> wheel = new TimingWheel<TestEntry>();
+        TestEntry first = new TestEntry();
+        TestEntry second = new TestEntry();
+        TestEntry third = new TestEntry();
+        wheel.schedule(first, 100);
+        wheel.schedule(second, 100);
+        wheel.schedule(third, 100);
+
+        assertTrue(wheel.cancel(second));
+        assertFalse(wheel.cancel(second));
+        assertEquals(2, wheel.size());
+
+        List<TestEntry> expired = Lists.newArrayList();
+        for (int i = 0; i < 100; i++) {
+            wheel.advance(expired);
+        }
+        assertEquals(2, expired.size());
+        assertTrue(expired.contains(first));
+        assertTrue(expired.contains(third));
+        assertEquals(0, wheel.size());
+    }
+
+    private static final class TestEntry extends TimingWheel.Entry {
+
+        long expiredAt = -1;
+
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.callback;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.Test;
+import org.spongepowered.api.event.Order;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class CallbackListTest {
+
+    @Test
+    public void testRunAllInOrder() {
+        CallbackList list = new CallbackList();
+        List<Integer> ran = Lists.newArrayList();
+        for (int i = 0; i < 5; i++) {
+            list.add(new RecordingCallback(ran, i));
+        }
+        list.runAll();
+
+        assertEquals(Lists.newArrayList(0, 1, 2, 3, 4), ran);
+    }
+
+    @Test
+    public void testRemove() {
+        CallbackList list = new CallbackList();
+        List<Integer> ran = Lists.newArrayList();
+        RecordingCallback first = new RecordingCallback(ran, 1);
+        RecordingCallback second = new RecordingCallback(ran, 2);
+        list.add(first);
+        list.add(second);
+
+        assertTrue(list.remove(first));
+        assertFalse(list.remove(first));
+        assertFalse(list.contains(first));
+        list.runAll();
+
+        assertEquals(Lists.newArrayList(2), ran);
+    }
+
+    @Test
+    public void testRunAllOnExecutor() throws Exception {
+        CallbackList list = new CallbackList();
+        List<Integer> ran = Lists.newArrayList();
+        list.add(new RecordingCallback(ran, 1));
+        list.add(new RecordingCallback(ran, 2));
+        list.runAll(MoreExecutors.sameThreadExecutor()).get();
+
+        assertEquals(Lists.newArrayList(1, 2), ran);
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        final CallbackList list = new CallbackList();
+        final int threads = 4;
+        final int perThread = 1000;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                        for (int i = 0; i < perThread; i++) {
+                            list.add(new RecordingCallback(null, i));
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        assertEquals(threads * perThread, list.size());
+    }
+
+    private static final class RecordingCallback extends AbstractEventCallback {
+
+        private final List<Integer> ran;
+        private final int id;
+
+        RecordingCallback(List<Integer> ran, int id) {
+            this.ran = ran;
+            this.id = id;
+        }
+
+        @Override
+        public Order getOrder() {
+            return Order.DEFAULT;
+        }
+
+        @Override
+        public void run() {
+            this.ran.add(this.id);
+        }
+
+    }
+
+}
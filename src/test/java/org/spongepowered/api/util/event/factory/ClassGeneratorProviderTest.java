@@ -26,7 +26,9 @@
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.Matchers.closeTo;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertThat;
@@ -34,7 +36,9 @@
 import com.google.common.base.Optional;
 import com.google.common.collect.Maps;
 import org.hamcrest.Matchers;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.scoreboard.objective.Objective;
@@ -43,6 +47,7 @@
 
 import static org.mockito.Mockito.*;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -54,6 +59,9 @@ public class ClassGeneratorProviderTest {
 
     private static final double ERROR = 0.03;
 
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
     private ClassGeneratorProvider createProvider() {
         return new ClassGeneratorProvider("org.spongepowered.test");
     }
@@ -71,6 +79,18 @@ public void testCreate_ModifierMethodInterface() throws Exception {
         assertNotSame(result.getOtherModifierClass(), result);
     }
 
+    @Test
+    public void testCreate_OutputDirectory() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        File outputDirectory = this.folder.newFolder();
+        provider.getClassLoader().setOutputDirectory(outputDirectory);
+        provider.create(PrimitiveContainer.class, Object.class);
+
+        assertThat(new File(outputDirectory, "org/spongepowered/test/PrimitiveContainer$Impl.class").isFile(), is(true));
+        assertThat(new File(outputDirectory, "org/spongepowered/test/PrimitiveContainer$Factory.class").isFile(), is(true));
+        assertThat(provider.getPregenerated(PrimitiveContainer.class).isPresent(), is(false));
+    }
+
     @Test
     public void testCreate_Primitives() throws Exception {
         ClassGeneratorProvider provider = createProvider();
@@ -131,6 +151,59 @@ public void testCreate_UnsetPrimitives() throws Exception {
         assertThat(result.getChar(), is((char) 0));
     }
 
+    @Test
+    public void testCreateResettable_Reset() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        EventFactory<PrimitiveContainer> factory = provider.createResettable(PrimitiveContainer.class, Object.class);
+        Map<String, Object> values = Maps.newHashMap();
+        values.put("int", 12);
+        values.put("long", 13L);
+        values.put("double", 15.5);
+
+        PrimitiveContainer result = factory.apply(values);
+        ((ResettableEvent) result).retain();
+        assertThat(((ResettableEvent) result).isRetained(), is(true));
+
+        values.put("int", 22);
+        ((ResettableEvent) result).reset(values);
+
+        assertThat(result.getInt(), is(22));
+        assertThat(result.getLong(), is(0L));
+        assertThat(result.getDouble(), is(closeTo(0, ERROR)));
+        assertThat(((ResettableEvent) result).isRetained(), is(false));
+    }
+
+    @Test
+    public void testEventPool() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        EventPool<PrimitiveContainer> pool = new EventPool<PrimitiveContainer>(
+                provider.createResettable(PrimitiveContainer.class, Object.class), 1);
+        Map<String, Object> values = Maps.newHashMap();
+
+        values.put("int", 1);
+        PrimitiveContainer first = pool.acquire(values);
+        pool.release(first);
+
+        values.put("int", 2);
+        PrimitiveContainer second = pool.acquire(values);
+        assertThat(second, is(sameInstance(first)));
+        assertThat(second.getInt(), is(2));
+
+        ((ResettableEvent) second).retain();
+        pool.release(second);
+        assertThat(pool.acquire(values), is(not(sameInstance(second))));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEventPool_DoubleRelease() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        EventPool<PrimitiveContainer> pool = new EventPool<PrimitiveContainer>(
+                provider.createResettable(PrimitiveContainer.class, Object.class), 2);
+        PrimitiveContainer event = pool.acquire(Maps.<String, Object>newHashMap());
+        pool.release(event);
+        pool.release(event);
+    }
+
     @Test(expected = NullPointerException.class)
     public void testCreate_UnsetPrimitivesWithNonNull() throws Exception {
         ClassGeneratorProvider provider = createProvider();
@@ -0,0 +1,104 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.superclasses;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.Cancellable;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class AbstractBulkEntityEventTest {
+
+    @Test
+    public void testParallelFilterKeepsOrder() {
+        List<Entity> entities = Lists.newArrayList();
+        List<Entity> expected = Lists.newArrayList();
+        for (int i = 0; i < 5000; i++) {
+            Entity entity = mock(Entity.class);
+            when(entity.getUniqueId()).thenReturn(new UUID(0, i));
+            entities.add(entity);
+            if (i % 3 != 0) {
+                expected.add(entity);
+            }
+        }
+
+        TestEvent event = new TestEvent(entities);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            event.filter(new Predicate<Entity>() {
+                @Override
+                public boolean apply(Entity input) {
+                    return input.getUniqueId().getLeastSignificantBits() % 3 != 0;
+                }
+            }, executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(expected, event.getEntities());
+    }
+
+    private static class TestEvent extends AbstractBulkEntityEvent implements Cancellable {
+
+        private final List<Entity> entities;
+        private boolean cancelled;
+
+        TestEvent(List<Entity> entities) {
+            this.entities = entities;
+        }
+
+        @Override
+        public List<Entity> getEntities() {
+            return this.entities;
+        }
+
+        @Override
+        public Game getGame() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+
+}